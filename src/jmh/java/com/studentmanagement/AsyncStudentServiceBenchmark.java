@@ -0,0 +1,107 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AsyncStudentServiceBenchmark {
+    static final int STUDENTS = 100_000;
+    static final int IN_FLIGHT = 1_000;
+    static final int HOT_IDS = 16;
+    @Param({"memory", "wal"})
+    public String persistence;
+    StudentService service;
+    AsyncStudentService async;
+    Path dir;
+    int round;
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        if ("wal".equals(persistence)) {
+            dir = Files.createTempDirectory("students");
+            service = new StudentService(dir.resolve("students.wal"));
+        } else {
+            service = new StudentService();
+        }
+        StudentTransaction tx = service.transaction();
+        for (int i = 0; i < STUDENTS; i++) {
+            tx.add("Student" + i, 18 + i % 50);
+        }
+        tx.commit();
+        async = new AsyncStudentService(service);
+    }
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        async.close();
+        service.close();
+        if (dir != null) {
+            Files.deleteIfExists(dir.resolve("students.wal"));
+            Files.deleteIfExists(dir);
+        }
+    }
+    @Benchmark
+    public int updateBlocking() {
+        int age = 18 + ++round % 50;
+        int base = round * IN_FLIGHT % STUDENTS;
+        int updated = 0;
+        for (int i = 1; i <= IN_FLIGHT; i++) {
+            if (service.updateStudent(base + i, "Reassigned", age)) updated++;
+        }
+        return updated;
+    }
+    @Benchmark
+    public int updatePipelined() {
+        int age = 18 + ++round % 50;
+        int base = round * IN_FLIGHT % STUDENTS;
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Boolean>[] pending = new CompletableFuture[IN_FLIGHT];
+        for (int i = 1; i <= IN_FLIGHT; i++) {
+            pending[i - 1] = async.updateStudent(base + i, "Reassigned", age);
+        }
+        int updated = 0;
+        for (CompletableFuture<Boolean> f : pending) {
+            if (f.join()) updated++;
+        }
+        return updated;
+    }
+    @Benchmark
+    public int findHotIdsAsync() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Optional<Student>>[] pending = new CompletableFuture[IN_FLIGHT];
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            pending[i] = async.findById(1 + i % HOT_IDS);
+        }
+        int found = 0;
+        for (CompletableFuture<Optional<Student>> f : pending) {
+            if (f.join().isPresent()) found++;
+        }
+        return found;
+    }
+    @Benchmark
+    public int findHotIdsBlocking() {
+        int found = 0;
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            if (service.findById(1 + i % HOT_IDS).isPresent()) found++;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,67 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ReplicationBenchmark {
+    static final int STUDENTS = 100_000;
+    static final int UPDATES = 10_000;
+    @Param({"0", "1"})
+    public int followers;
+    StudentService service;
+    StudentReplicationLeader leader;
+    StudentReplica replica;
+    int round;
+    @Setup(Level.Trial)
+    public void populate() throws IOException, InterruptedException {
+        service = new StudentService();
+        StudentTransaction tx = service.transaction();
+        for (int i = 0; i < STUDENTS; i++) {
+            tx.add("Student" + i, 18 + i % 50);
+        }
+        tx.commit();
+        leader = new StudentReplicationLeader(service, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        leader.start();
+        if (followers > 0) {
+            replica = new StudentReplica(new InetSocketAddress(InetAddress.getLoopbackAddress(), leader.port()));
+            replica.start();
+            replica.awaitSequence(service.changes().lastSequence(), Duration.ofMinutes(1));
+        }
+    }
+    @TearDown(Level.Trial)
+    public void close() {
+        if (replica != null) replica.close();
+        leader.close();
+        service.close();
+    }
+    @Benchmark
+    public long updateAndReplicate() throws InterruptedException {
+        int base = ++round * UPDATES % STUDENTS;
+        for (int i = 1; i <= UPDATES; i++) {
+            service.updateStudent(base + i, "Renamed" + (base + i), 18 + (round + i) % 50);
+        }
+        long last = service.changes().lastSequence();
+        if (replica != null && !replica.awaitSequence(last, Duration.ofMinutes(1))) throw new IllegalStateException("Replica stalled");
+        return last;
+    }
+}
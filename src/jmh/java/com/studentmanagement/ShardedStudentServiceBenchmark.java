@@ -0,0 +1,64 @@
+package com.studentmanagement;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ShardedStudentServiceBenchmark {
+    static final int THREADS = 8;
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+    @Param({"1000000"})
+    public int size;
+    ShardedStudentService service;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = new ShardedStudentService(shards);
+        for (int i = 0; i < size; i++) {
+            service.addStudent("Student" + i, 18 + i % 50);
+        }
+    }
+    @TearDown(Level.Trial)
+    public void close() {
+        service.close();
+    }
+    @Benchmark
+    @Threads(THREADS)
+    public boolean updateStudent() {
+        return service.updateStudent(randomId(), "Updated", 30);
+    }
+    @Benchmark
+    @Threads(THREADS)
+    public boolean mixed() {
+        int id = randomId();
+        if (ThreadLocalRandom.current().nextInt(10) == 0) return service.updateStudent(id, "Updated", 30);
+        return service.findById(id).isPresent();
+    }
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<Student> getAllStudents() {
+        return service.getAllStudents();
+    }
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, size + 1);
+    }
+}
@@ -0,0 +1,41 @@
+package com.studentmanagement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StudentChurnBenchmark {
+    @Param({"1000000"})
+    public int size;
+    @Param({"heap", "columnar"})
+    public String storage;
+    StudentService service;
+    int oldest;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = new StudentService("columnar".equals(storage) ? new ColumnarStudentRepository() : new HeapStudentRepository());
+        for (int i = 0; i < size; i++) {
+            service.addStudent("Student" + i % 1000, 18 + i % 50);
+        }
+        oldest = 1;
+    }
+    @Benchmark
+    public boolean replaceOldest() {
+        service.addStudent("Student", 21);
+        return service.deleteStudent(oldest++);
+    }
+}
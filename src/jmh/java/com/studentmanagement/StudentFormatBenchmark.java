@@ -0,0 +1,87 @@
+package com.studentmanagement;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StudentFormatBenchmark {
+    static final int SIZE = 100_000;
+    StudentService service;
+    List<Student> students;
+    PrintStream console;
+    PrintWriter formatted;
+    Writer file;
+    WritableByteChannel channel;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = new StudentService();
+        service.addStudents(IntStream.range(0, SIZE).mapToObj(i -> new NewStudent("Student" + i, 18 + i % 50)));
+        students = service.getAllStudents();
+        console = new PrintStream(OutputStream.nullOutputStream());
+        formatted = new PrintWriter(OutputStream.nullOutputStream());
+        file = new BufferedWriter(new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8));
+        channel = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                int n = src.remaining();
+                src.position(src.limit());
+                return n;
+            }
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+            @Override
+            public void close() {
+            }
+        };
+    }
+    @Benchmark
+    public void exportCsv() throws IOException {
+        service.exportCsv(file);
+    }
+    @Benchmark
+    public void exportBinary() throws IOException {
+        service.exportBinary(channel);
+    }
+    @Benchmark
+    public void printToString() {
+        for (Student s : students) {
+            console.println(s);
+        }
+    }
+    @Benchmark
+    public void printAppendTo() {
+        StudentTransfer.LineWriter lines = new StudentTransfer.LineWriter(formatted);
+        for (Student s : students) {
+            s.appendTo(lines.line());
+            lines.writeLine();
+        }
+        formatted.flush();
+    }
+}
@@ -0,0 +1,102 @@
+package com.studentmanagement;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StudentNameSearchBenchmark {
+    static final int FIRST_NAMES = 1_000;
+    static final int LAST_NAMES = 10_000;
+    static final int QUERIES = 1_024;
+    static final String[] SYLLABLES = {"an", "bel", "cor", "da", "el", "fen", "gar", "ha", "is", "jo", "ka", "lin",
+            "mar", "no", "ol", "per", "qui", "ros", "sa", "tor", "ul", "ven", "wil", "xa", "yor", "zel"};
+    @Param({"10000000"})
+    public int students;
+    StudentService service;
+    String[] firsts;
+    String[] lasts;
+    String[] typoNames;
+    String[] typoLasts;
+    String[] fragments;
+    int next;
+    @Setup
+    public void populate() {
+        Random random = new Random(42);
+        firsts = words(random, FIRST_NAMES, 3);
+        lasts = words(random, LAST_NAMES, 4);
+        service = new StudentService();
+        StudentTransaction tx = service.transaction();
+        for (int i = 0; i < students; i++) {
+            tx.add(firsts[i % FIRST_NAMES] + " " + lasts[(i / FIRST_NAMES) % LAST_NAMES], 18 + i % 50);
+            if (tx.size() == 100_000) {
+                tx.commit();
+                tx = service.transaction();
+            }
+        }
+        tx.commit();
+        typoNames = new String[QUERIES];
+        typoLasts = new String[QUERIES];
+        fragments = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String last = lasts[random.nextInt(LAST_NAMES)];
+            typoNames[i] = typo(random, firsts[random.nextInt(FIRST_NAMES)]) + " " + typo(random, last);
+            typoLasts[i] = typo(random, last);
+            int from = random.nextInt(last.length() - 3);
+            fragments[i] = last.substring(from, from + 4);
+        }
+        service.searchByName(typoNames[0], 1, 10);
+    }
+    @Benchmark
+    public List<Student> fullNameOneTypo() {
+        return service.searchByName(typoNames[next++ & (QUERIES - 1)], 1, 10);
+    }
+    @Benchmark
+    public List<Student> fullNameTwoTypos() {
+        return service.searchByName(typoNames[next++ & (QUERIES - 1)], 2, 10);
+    }
+    @Benchmark
+    public List<Student> lastNameOneTypo() {
+        return service.searchByName(typoLasts[next++ & (QUERIES - 1)], 1, 10);
+    }
+    @Benchmark
+    public List<Student> substring() {
+        return service.findByNameContaining(fragments[next++ & (QUERIES - 1)], 10);
+    }
+    static String[] words(Random random, int count, int syllables) {
+        Set<String> seen = new LinkedHashSet<>();
+        while (seen.size() < count) {
+            StringBuilder b = new StringBuilder();
+            for (int s = 0; s < syllables; s++) {
+                b.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            b.setCharAt(0, Character.toUpperCase(b.charAt(0)));
+            seen.add(b.toString());
+        }
+        return seen.toArray(new String[0]);
+    }
+    static String typo(Random random, String word) {
+        int i = 1 + random.nextInt(word.length() - 2);
+        char[] chars = word.toCharArray();
+        char c = chars[i];
+        chars[i] = chars[i + 1];
+        chars[i + 1] = c;
+        return new String(chars);
+    }
+}
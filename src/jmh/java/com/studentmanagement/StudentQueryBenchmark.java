@@ -0,0 +1,64 @@
+package com.studentmanagement;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StudentQueryBenchmark {
+    @Param({"heap", "columnar"})
+    public String engine;
+    @Param({"1000000", "10000000"})
+    public int size;
+    StudentService service;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = new StudentService("columnar".equals(engine) ? new ColumnarStudentRepository() : new HeapStudentRepository());
+        service.addStudents(IntStream.range(0, size).mapToObj(i -> new NewStudent("Student" + (i % 1000), 18 + i % 50)));
+    }
+    @Benchmark
+    public OptionalDouble averageAgeSequentialList() {
+        return service.getAllStudents().stream()
+                .filter(s -> s.getAge() >= 20 && s.getAge() <= 40)
+                .mapToInt(Student::getAge)
+                .average();
+    }
+    @Benchmark
+    public OptionalDouble averageAgeSequentialStream() {
+        try (Stream<Student> students = service.stream()) {
+            return students.filter(s -> s.getAge() >= 20 && s.getAge() <= 40)
+                    .mapToInt(Student::getAge)
+                    .average();
+        }
+    }
+    @Benchmark
+    public OptionalDouble averageAgeForkJoin() {
+        return service.aggregate(StudentQuery.ageBetween(20, 40), StudentQuery.averageAge());
+    }
+    @Benchmark
+    public long countByPrefixSequentialStream() {
+        try (Stream<Student> students = service.stream()) {
+            return students.filter(s -> s.getName().startsWith("Student99")).count();
+        }
+    }
+    @Benchmark
+    public long countByPrefixForkJoin() {
+        return service.aggregate(StudentQuery.nameStartsWith("Student99"), StudentQuery.count());
+    }
+}
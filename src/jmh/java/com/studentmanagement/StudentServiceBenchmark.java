@@ -0,0 +1,76 @@
+package com.studentmanagement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class StudentServiceBenchmark {
+    static final int CONTENDED_THREADS = 4;
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+    StudentService service;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = populatedService(size);
+    }
+    @Benchmark
+    @Threads(1)
+    public Optional<Student> findById() {
+        return service.findById(randomId());
+    }
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public Optional<Student> findByIdContended() {
+        return findById();
+    }
+    @Benchmark
+    @Threads(1)
+    public boolean updateStudent() {
+        return service.updateStudent(randomId(), "Updated", 30);
+    }
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public boolean updateStudentContended() {
+        return updateStudent();
+    }
+    @Benchmark
+    @Threads(1)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<Student> getAllStudents() {
+        return service.getAllStudents();
+    }
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<Student> getAllStudentsContended() {
+        return getAllStudents();
+    }
+    private int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, size + 1);
+    }
+    static StudentService populatedService(int size) {
+        StudentService service = new StudentService();
+        for (int i = 0; i < size; i++) {
+            service.addStudent("Student" + i, 18 + i % 50);
+        }
+        return service;
+    }
+}
@@ -0,0 +1,78 @@
+package com.studentmanagement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = StudentServiceMutationBenchmark.BATCH)
+@Measurement(iterations = 20, batchSize = StudentServiceMutationBenchmark.BATCH)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class StudentServiceMutationBenchmark {
+    static final int BATCH = 10_000;
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+    StudentService service;
+    @Setup(Level.Trial)
+    public void populate() {
+        service = StudentServiceBenchmark.populatedService(size);
+    }
+    @State(Scope.Thread)
+    public static class Added {
+        final int[] ids = new int[BATCH];
+        int count;
+        @TearDown(Level.Iteration)
+        public void removeAdded(StudentServiceMutationBenchmark benchmark) {
+            for (int i = 0; i < count; i++) {
+                benchmark.service.deleteStudent(ids[i]);
+            }
+            count = 0;
+        }
+    }
+    @State(Scope.Thread)
+    public static class Victims {
+        final int[] ids = new int[BATCH];
+        int next;
+        @Setup(Level.Iteration)
+        public void addVictims(StudentServiceMutationBenchmark benchmark) {
+            for (int i = 0; i < BATCH; i++) {
+                ids[i] = benchmark.service.addStudent("Victim", 20).getId();
+            }
+            next = 0;
+        }
+    }
+    @Benchmark
+    @Threads(1)
+    public Student addStudent(Added added) {
+        Student s = service.addStudent("Student", 21);
+        added.ids[added.count++] = s.getId();
+        return s;
+    }
+    @Benchmark
+    @Threads(StudentServiceBenchmark.CONTENDED_THREADS)
+    public Student addStudentContended(Added added) {
+        return addStudent(added);
+    }
+    @Benchmark
+    @Threads(1)
+    public boolean deleteStudent(Victims victims) {
+        return service.deleteStudent(victims.ids[victims.next++]);
+    }
+    @Benchmark
+    @Threads(StudentServiceBenchmark.CONTENDED_THREADS)
+    public boolean deleteStudentContended(Victims victims) {
+        return deleteStudent(victims);
+    }
+}
@@ -0,0 +1,74 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class StudentTransactionBenchmark {
+    static final int STUDENTS = 100_000;
+    static final int EDITS = 1_000;
+    @Param({"memory", "wal"})
+    public String persistence;
+    StudentService service;
+    Path dir;
+    int round;
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        if ("wal".equals(persistence)) {
+            dir = Files.createTempDirectory("students");
+            service = new StudentService(dir.resolve("students.wal"));
+        } else {
+            service = new StudentService();
+        }
+        StudentTransaction tx = service.transaction();
+        for (int i = 0; i < STUDENTS; i++) {
+            tx.add("Student" + i, 18 + i % 50);
+        }
+        tx.commit();
+    }
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        service.close();
+        if (dir != null) {
+            Files.deleteIfExists(dir.resolve("students.wal"));
+            Files.deleteIfExists(dir);
+        }
+    }
+    @Benchmark
+    public int updateIndividually() {
+        int age = 18 + ++round % 50;
+        int base = round * EDITS % STUDENTS;
+        for (int i = 1; i <= EDITS; i++) {
+            service.updateStudent(base + i, "Reassigned", age);
+        }
+        return age;
+    }
+    @Benchmark
+    public int updateInTransaction() {
+        int age = 18 + ++round % 50;
+        int base = round * EDITS % STUDENTS;
+        StudentTransaction tx = service.transaction();
+        for (int i = 1; i <= EDITS; i++) {
+            tx.update(base + i, "Reassigned", age);
+        }
+        return tx.commit().size() + age;
+    }
+}
@@ -0,0 +1,83 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class WriteBehindBenchmark {
+    static final int STUDENTS = 100_000;
+    static final int HOT_IDS = 100;
+    static final int UPDATES_PER_ID = 100;
+    static final String[] NAMES = {"Alice", "Bob", "Carol", "Dave", "Erin", "Frank", "Grace", "Heidi"};
+    @Param({"memory", "wal"})
+    public String persistence;
+    StudentService service;
+    WriteBehindStudentService writeBehind;
+    Path dir;
+    int round;
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        if ("wal".equals(persistence)) {
+            dir = Files.createTempDirectory("students");
+            service = new StudentService(dir.resolve("students.wal"));
+        } else {
+            service = new StudentService();
+        }
+        StudentTransaction tx = service.transaction();
+        for (int i = 0; i < STUDENTS; i++) {
+            tx.add("Student" + i, 18 + i % 50);
+        }
+        tx.commit();
+        service.findByNamePrefix("Student1");
+        writeBehind = new WriteBehindStudentService(service, Duration.ofHours(1));
+    }
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        writeBehind.close();
+        service.close();
+        if (dir != null) {
+            Files.deleteIfExists(dir.resolve("students.wal"));
+            Files.deleteIfExists(dir);
+        }
+    }
+    @Benchmark
+    public int burstDirect() {
+        int base = ++round * HOT_IDS % STUDENTS;
+        for (int u = 0; u < UPDATES_PER_ID; u++) {
+            for (int i = 1; i <= HOT_IDS; i++) {
+                service.updateStudent(base + i, NAMES[(u + i) & 7], 18 + u % 50);
+            }
+        }
+        return base;
+    }
+    @Benchmark
+    public int burstWriteBehind() {
+        int base = ++round * HOT_IDS % STUDENTS;
+        for (int u = 0; u < UPDATES_PER_ID; u++) {
+            for (int i = 1; i <= HOT_IDS; i++) {
+                writeBehind.updateStudent(base + i, NAMES[(u + i) & 7], 18 + u % 50);
+            }
+        }
+        writeBehind.flush();
+        return base;
+    }
+}
@@ -0,0 +1,208 @@
+package com.studentmanagement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+public class AsyncStudentService implements AutoCloseable {
+    static final int MAX_BATCH = 1024;
+    private final StudentService service;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final ConcurrentHashMap<Integer, CompletableFuture<Optional<Student>>> pendingFinds = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Write> writes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final LongAdder coalescedFinds = new LongAdder();
+    private final LongAdder writeBatches = new LongAdder();
+    public AsyncStudentService(StudentService service) {
+        this(service, StudentHttpServer.requestExecutor(), true);
+    }
+    public AsyncStudentService(StudentService service, Executor executor) {
+        this(service, executor, false);
+    }
+    private AsyncStudentService(StudentService service, Executor executor, boolean ownsExecutor) {
+        this.service = Objects.requireNonNull(service, "service");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.ownsExecutor = ownsExecutor;
+    }
+    public CompletableFuture<Student> addStudent(String name, int age) {
+        Objects.requireNonNull(name, "name");
+        return enqueue(new Write(StudentChange.Type.ADDED, 0, name, age));
+    }
+    public CompletableFuture<Boolean> updateStudent(int id, String newName, int newAge) {
+        Objects.requireNonNull(newName, "newName");
+        return enqueue(new Write(StudentChange.Type.UPDATED, id, newName, newAge));
+    }
+    public CompletableFuture<Boolean> deleteStudent(int id) {
+        return enqueue(new Write(StudentChange.Type.DELETED, id, null, 0));
+    }
+    public CompletableFuture<Optional<Student>> findById(int id) {
+        CompletableFuture<Optional<Student>> pending = pendingFinds.get(id);
+        if (pending == null) {
+            CompletableFuture<Optional<Student>> lookup = new CompletableFuture<>();
+            pending = pendingFinds.putIfAbsent(id, lookup);
+            if (pending == null) {
+                schedule(lookup, () -> {
+                    pendingFinds.remove(id, lookup);
+                    lookup.complete(service.findById(id));
+                }, () -> pendingFinds.remove(id, lookup));
+                return lookup.copy();
+            }
+        }
+        coalescedFinds.increment();
+        return pending.copy();
+    }
+    public CompletableFuture<List<Student>> getAllStudents() {
+        return call(StudentService::getAllStudents);
+    }
+    public CompletableFuture<List<Student>> findByAgeRange(int minAge, int maxAge) {
+        return call(s -> s.findByAgeRange(minAge, maxAge));
+    }
+    public CompletableFuture<List<Student>> findByNamePrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+        return call(s -> s.findByNamePrefix(prefix));
+    }
+    public CompletableFuture<List<Student>> searchByName(String query, int maxEdits, int limit) {
+        Objects.requireNonNull(query, "query");
+        return call(s -> s.searchByName(query, maxEdits, limit));
+    }
+    public <T> CompletableFuture<T> call(Function<? super StudentService, ? extends T> operation) {
+        Objects.requireNonNull(operation, "operation");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        schedule(result, () -> result.complete(operation.apply(service)), () -> { });
+        return result;
+    }
+    public StudentService service() {
+        return service;
+    }
+    @Override
+    public void close() {
+        if (!ownsExecutor) return;
+        ExecutorService pool = (ExecutorService) executor;
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) pool.shutdownNow();
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+    long coalescedFinds() {
+        return coalescedFinds.sum();
+    }
+    long writeBatches() {
+        return writeBatches.sum();
+    }
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> enqueue(Write write) {
+        writes.add(write);
+        if (draining.compareAndSet(false, true)) {
+            schedule(write.result, this::drain, () -> {
+                draining.set(false);
+                failQueued();
+            });
+        }
+        return (CompletableFuture<T>) write.result;
+    }
+    private void drain() {
+        List<Write> batch = new ArrayList<>();
+        while (true) {
+            Write write;
+            while (batch.size() < MAX_BATCH && (write = writes.poll()) != null) {
+                batch.add(write);
+            }
+            if (batch.isEmpty()) {
+                draining.set(false);
+                if (writes.isEmpty() || !draining.compareAndSet(false, true)) return;
+                continue;
+            }
+            apply(batch);
+            batch.clear();
+        }
+    }
+    private void apply(List<Write> batch) {
+        writeBatches.increment();
+        if (batch.size() == 1) {
+            applyOne(batch.get(0));
+            return;
+        }
+        StudentTransaction tx = service.transaction();
+        for (Write write : batch) {
+            switch (write.type) {
+                case ADDED -> tx.add(write.name, write.age);
+                case UPDATED -> tx.update(write.id, write.name, write.age);
+                case DELETED -> tx.delete(write.id);
+            }
+        }
+        List<Student> added;
+        try {
+            added = tx.commit();
+        } catch (StudentTransaction.RollbackException e) {
+            for (Write write : batch) {
+                applyOne(write);
+            }
+            return;
+        } catch (RuntimeException | Error e) {
+            for (Write write : batch) {
+                write.result.completeExceptionally(e);
+            }
+            return;
+        }
+        int a = 0;
+        for (Write write : batch) {
+            write.result.complete(write.type == StudentChange.Type.ADDED ? added.get(a++) : Boolean.TRUE);
+        }
+    }
+    private void applyOne(Write write) {
+        try {
+            write.result.complete(switch (write.type) {
+                case ADDED -> service.addStudent(write.name, write.age);
+                case UPDATED -> service.updateStudent(write.id, write.name, write.age);
+                case DELETED -> service.deleteStudent(write.id);
+            });
+        } catch (RuntimeException | Error e) {
+            write.result.completeExceptionally(e);
+        }
+    }
+    private void failQueued() {
+        Write write;
+        while ((write = writes.poll()) != null) {
+            write.result.completeExceptionally(new IllegalStateException("AsyncStudentService is closed"));
+        }
+    }
+    private void schedule(CompletableFuture<?> result, Runnable task, Runnable rejected) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            rejected.run();
+            result.completeExceptionally(e);
+        }
+    }
+    private static final class Write {
+        final StudentChange.Type type;
+        final int id;
+        final String name;
+        final int age;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        Write(StudentChange.Type type, int id, String name, int age) {
+            this.type = type;
+            this.id = id;
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
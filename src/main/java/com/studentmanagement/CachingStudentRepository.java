@@ -0,0 +1,297 @@
+package com.studentmanagement;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+public final class CachingStudentRepository implements StudentRepository {
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 1024;
+    private final StudentRepository delegate;
+    private final int maximumSize;
+    private final Segment[] segments;
+    public CachingStudentRepository(StudentRepository delegate, int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("maximumSize must be positive");
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        int count = 1;
+        while (count < MAX_SEGMENTS && maximumSize / (count << 1) >= MIN_SEGMENT_SIZE) count <<= 1;
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    @Override
+    public boolean contains(int id) {
+        return delegate.contains(id);
+    }
+    @Override
+    public Student find(int id) {
+        Segment segment = segmentFor(id);
+        long observed;
+        segment.lock.lock();
+        try {
+            Student cached = segment.hit(id);
+            if (cached != null) return cached;
+            observed = segment.generation;
+        } finally {
+            segment.lock.unlock();
+        }
+        Student s = delegate.find(id);
+        if (s == null || s.getId() != id) return s;
+        segment.lock.lock();
+        try {
+            if (segment.generation == observed) segment.admit(id, s);
+        } finally {
+            segment.lock.unlock();
+        }
+        return s;
+    }
+    @Override
+    public boolean optimisticReads() {
+        return false;
+    }
+    @Override
+    public void insert(Student student) {
+        delegate.insert(student);
+    }
+    @Override
+    public void ensureCapacity(int additional) {
+        delegate.ensureCapacity(additional);
+    }
+    @Override
+    public boolean compact(int maxSlots) {
+        advanceGenerations();
+        try {
+            return delegate.compact(maxSlots);
+        } finally {
+            advanceGenerations();
+        }
+    }
+    @Override
+    public void insertAll(Student[] students) {
+        delegate.insertAll(students);
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        boolean updated = delegate.update(id, name, age);
+        invalidate(id);
+        return updated;
+    }
+    @Override
+    public boolean remove(int id) {
+        boolean removed = delegate.remove(id);
+        invalidate(id);
+        return removed;
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        delegate.forEach(action);
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        return delegate.scan(cursor, limit, action);
+    }
+    @Override
+    public int rowSlots() {
+        return delegate.rowSlots();
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        delegate.forEachRow(fromSlot, toSlot, action);
+    }
+    @Override
+    public StudentRepository snapshot() {
+        return delegate.snapshot();
+    }
+    @Override
+    public long seek(long offset) {
+        return delegate.seek(offset);
+    }
+    @Override
+    public long[] openCursor() {
+        return delegate.openCursor();
+    }
+    public void invalidate(int id) {
+        Segment segment = segmentFor(id);
+        segment.lock.lock();
+        try {
+            segment.generation++;
+            int slot = segment.index.get(id);
+            if (slot != IntIntMap.MISSING) segment.release(slot);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+    public int cachedSize() {
+        return (int) sum(segment -> segment.index.size());
+    }
+    public int maximumSize() {
+        return maximumSize;
+    }
+    public long hitCount() {
+        return sum(segment -> segment.hits);
+    }
+    public long missCount() {
+        return sum(segment -> segment.misses);
+    }
+    public long evictionCount() {
+        return sum(segment -> segment.evictions);
+    }
+    public double hitRatio() {
+        long hits = 0;
+        long requests = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                hits += segment.hits;
+                requests += segment.hits + segment.misses;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+    public double missRatio() {
+        return 1.0 - hitRatio();
+    }
+    private void advanceGenerations() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.generation++;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+    private Segment segmentFor(int id) {
+        return segments[(id * 0x9E3779B9 >>> 16) & (segments.length - 1)];
+    }
+    private long sum(ToLongFunction<Segment> counter) {
+        long total = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                total += counter.applyAsLong(segment);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return total;
+    }
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int maximumSize;
+        private final int windowMaximum;
+        private final int protectedMaximum;
+        private final IntIntMap index;
+        private final FrequencySketch sketch;
+        private final int[] ids;
+        private final Student[] values;
+        private final byte[] queues;
+        private final int[] prev;
+        private final int[] next;
+        private final int[] sizes = new int[3];
+        private final int[] free;
+        private int freeTop;
+        private long generation;
+        private long hits;
+        private long misses;
+        private long evictions;
+        Segment(int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.windowMaximum = Math.max(1, maximumSize / 100);
+            this.protectedMaximum = (maximumSize - windowMaximum) * 4 / 5;
+            this.index = new IntIntMap(maximumSize + 1);
+            this.sketch = new FrequencySketch(maximumSize);
+            int slots = maximumSize + 1;
+            ids = new int[slots];
+            values = new Student[slots];
+            queues = new byte[slots];
+            prev = new int[slots + 3];
+            next = new int[slots + 3];
+            free = new int[slots];
+            for (int i = 0; i < slots; i++) {
+                free[i] = slots - 1 - i;
+            }
+            freeTop = slots;
+            for (int q = 0; q < 3; q++) {
+                int head = head(q);
+                prev[head] = head;
+                next[head] = head;
+            }
+        }
+        Student hit(int id) {
+            sketch.increment(id);
+            int slot = index.get(id);
+            if (slot == IntIntMap.MISSING) {
+                misses++;
+                return null;
+            }
+            hits++;
+            switch (queues[slot]) {
+                case WINDOW -> moveToTail(slot, WINDOW);
+                case PROBATION -> {
+                    moveToTail(slot, PROTECTED);
+                    if (sizes[PROTECTED] > protectedMaximum) moveToTail(first(PROTECTED), PROBATION);
+                }
+                default -> moveToTail(slot, PROTECTED);
+            }
+            return values[slot];
+        }
+        void admit(int id, Student s) {
+            if (index.get(id) != IntIntMap.MISSING) return;
+            int slot = free[--freeTop];
+            ids[slot] = id;
+            values[slot] = s;
+            index.put(id, slot);
+            link(slot, WINDOW);
+            if (sizes[WINDOW] <= windowMaximum) return;
+            int candidate = first(WINDOW);
+            moveToTail(candidate, PROBATION);
+            if (index.size() <= maximumSize) return;
+            int victim = first(PROBATION);
+            if (victim == candidate) victim = sizes[PROTECTED] > 0 ? first(PROTECTED) : candidate;
+            if (victim != candidate && sketch.frequency(ids[candidate]) > sketch.frequency(ids[victim])) release(victim);
+            else release(candidate);
+            evictions++;
+        }
+        void release(int slot) {
+            unlink(slot);
+            index.remove(ids[slot]);
+            values[slot] = null;
+            free[freeTop++] = slot;
+        }
+        private int head(int queue) {
+            return ids.length + queue;
+        }
+        private int first(int queue) {
+            return next[head(queue)];
+        }
+        private void moveToTail(int slot, byte queue) {
+            unlink(slot);
+            link(slot, queue);
+        }
+        private void link(int slot, byte queue) {
+            int head = head(queue);
+            int tail = prev[head];
+            next[tail] = slot;
+            prev[slot] = tail;
+            next[slot] = head;
+            prev[head] = slot;
+            queues[slot] = queue;
+            sizes[queue]++;
+        }
+        private void unlink(int slot) {
+            next[prev[slot]] = next[slot];
+            prev[next[slot]] = prev[slot];
+            sizes[queues[slot]]--;
+        }
+    }
+}
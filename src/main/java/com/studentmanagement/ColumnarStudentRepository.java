@@ -0,0 +1,207 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.function.Consumer;
+public final class ColumnarStudentRepository implements StudentRepository {
+    private static final int MIN_COMPACTION_SIZE = 64;
+    private static final int DELETE_COMPACTION_STEP = 64;
+    private static final int REMOVED = -1;
+    private final IntIntMap slotsById = new IntIntMap();
+    private final SlotCounts liveSlots = new SlotCounts();
+    private final ScanCursors cursors = new ScanCursors();
+    private final NameDictionary names = new NameDictionary();
+    private int[] ids = new int[16];
+    private int[] ages = new int[16];
+    private int[] nameCodes = new int[16];
+    private int size;
+    private int count;
+    private int compactFrom = -1;
+    private int compactTo;
+    @Override
+    public int size() {
+        return count;
+    }
+    @Override
+    public boolean contains(int id) {
+        return slotsById.get(id) != IntIntMap.MISSING;
+    }
+    @Override
+    public Student find(int id) {
+        int slot = slotsById.get(id);
+        if (slot == IntIntMap.MISSING) return null;
+        int[] codes = nameCodes;
+        int[] ageColumn = ages;
+        if (slot >= codes.length || slot >= ageColumn.length || codes[slot] == REMOVED) return null;
+        return new Student(id, names.decode(codes[slot]), ageColumn[slot]);
+    }
+    @Override
+    public void insert(Student student) {
+        if (size == ids.length) grow(size << 1);
+        slotsById.put(student.getId(), size);
+        ids[size] = student.getId();
+        ages[size] = student.getAge();
+        nameCodes[size] = names.encode(student.getName());
+        liveSlots.increment(size);
+        size++;
+        count++;
+    }
+    @Override
+    public void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > ids.length) grow(Math.max(required, ids.length << 1));
+        slotsById.ensureCapacity(count + additional);
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        int slot = slotsById.get(id);
+        if (slot == IntIntMap.MISSING) return false;
+        int old = nameCodes[slot];
+        ages[slot] = age;
+        nameCodes[slot] = names.encode(name);
+        names.release(old);
+        return true;
+    }
+    @Override
+    public boolean remove(int id) {
+        int slot = slotsById.remove(id);
+        if (slot == IntIntMap.MISSING) return false;
+        names.release(nameCodes[slot]);
+        nameCodes[slot] = REMOVED;
+        liveSlots.decrement(slot);
+        count--;
+        if (compactFrom >= 0 || needsCompaction()) compact(DELETE_COMPACTION_STEP);
+        return true;
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        for (int i = 0; i < size; i++) {
+            int code = nameCodes[i];
+            if (code != REMOVED) action.accept(new Student(ids[i], names.decode(code), ages[i]));
+        }
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        int i = (int) cursor;
+        for (int n = 0; i < size && n < limit; i++) {
+            int code = nameCodes[i];
+            if (code == REMOVED) continue;
+            action.accept(new Student(ids[i], names.decode(code), ages[i]));
+            n++;
+        }
+        return i < size ? i : -1;
+    }
+    @Override
+    public int rowSlots() {
+        return size;
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        Row row = new Row();
+        for (int i = fromSlot; i < toSlot; i++) {
+            if (nameCodes[i] == REMOVED) continue;
+            row.slot = i;
+            action.accept(row);
+        }
+    }
+    @Override
+    public long[] openCursor() {
+        return cursors.open(0);
+    }
+    @Override
+    public long seek(long offset) {
+        if (offset >= count) return -1;
+        if (size == count) return offset;
+        int block = 0;
+        for (int live; offset >= (live = liveSlots.get(block)); block++) {
+            offset -= live;
+        }
+        for (int i = block << SlotCounts.BLOCK_SHIFT; ; i++) {
+            if (nameCodes[i] != REMOVED && offset-- == 0) return i;
+        }
+    }
+    @Override
+    public boolean compact(int maxSlots) {
+        if (compactFrom < 0) {
+            if (count == size) return false;
+            compactFrom = 0;
+            compactTo = 0;
+        }
+        int end = (int) Math.min(size, (long) compactFrom + maxSlots);
+        cursors.clamp(compactTo, compactFrom);
+        long nextCursor = cursors.after(compactFrom);
+        for (; compactFrom < end; compactFrom++) {
+            if (compactFrom == nextCursor) {
+                cursors.clamp(compactTo, compactFrom);
+                nextCursor = cursors.after(compactFrom);
+            }
+            int code = nameCodes[compactFrom];
+            if (code == REMOVED) continue;
+            if (compactTo != compactFrom) {
+                ids[compactTo] = ids[compactFrom];
+                ages[compactTo] = ages[compactFrom];
+                nameCodes[compactTo] = code;
+                nameCodes[compactFrom] = REMOVED;
+                liveSlots.decrement(compactFrom);
+                liveSlots.increment(compactTo);
+                slotsById.put(ids[compactTo], compactTo);
+            }
+            compactTo++;
+        }
+        cursors.clamp(compactTo, compactFrom);
+        if (compactFrom < size) return true;
+        size = compactTo;
+        compactFrom = -1;
+        if (ids.length > 64 && ids.length > size << 2) grow(Math.max(16, size << 1));
+        slotsById.trim();
+        return false;
+    }
+    int distinctNames() {
+        return names.size();
+    }
+    long nameBytes() {
+        return names.poolBytes();
+    }
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        ages = Arrays.copyOf(ages, capacity);
+        nameCodes = Arrays.copyOf(nameCodes, capacity);
+    }
+    private boolean needsCompaction() {
+        return size >= MIN_COMPACTION_SIZE && count < size >>> 1;
+    }
+    private final class Row implements StudentRow {
+        private int slot;
+        private String prefix;
+        private byte[] prefixBytes;
+        private String equalTo;
+        private int equalCode;
+        @Override
+        public int getId() {
+            return ids[slot];
+        }
+        @Override
+        public String getName() {
+            return names.decode(nameCodes[slot]);
+        }
+        @Override
+        public int getAge() {
+            return ages[slot];
+        }
+        @Override
+        public boolean nameEquals(String name) {
+            if (name != equalTo) {
+                equalTo = name;
+                equalCode = names.lookup(name);
+            }
+            return equalCode != NameDictionary.MISSING && nameCodes[slot] == equalCode;
+        }
+        @Override
+        public boolean nameStartsWith(String prefix) {
+            if (prefix != this.prefix) {
+                this.prefix = prefix;
+                prefixBytes = NameDictionary.prefixBytes(prefix);
+            }
+            if (prefixBytes == null) return getName().startsWith(prefix);
+            return names.startsWith(nameCodes[slot], prefixBytes);
+        }
+    }
+}
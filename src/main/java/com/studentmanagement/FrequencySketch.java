@@ -0,0 +1,49 @@
+package com.studentmanagement;
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        table = new long[length];
+        tableMask = length - 1;
+        sampleSize = 10 * Math.max(16, maximumSize);
+    }
+    int frequency(int key) {
+        int frequency = 15;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            long h = hash(key, depth);
+            frequency = Math.min(frequency, (int) (table[(int) h & tableMask] >>> shift(h)) & 15);
+        }
+        return frequency;
+    }
+    void increment(int key) {
+        boolean added = false;
+        for (int depth = 0; depth < SEEDS.length; depth++) {
+            long h = hash(key, depth);
+            int index = (int) h & tableMask;
+            int shift = shift(h);
+            if (((table[index] >>> shift) & 15) != 15) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++additions == sampleSize) halve();
+    }
+    private void halve() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+    private static long hash(int key, int depth) {
+        long h = (key + SEEDS[depth]) * SEEDS[depth];
+        return h ^ (h >>> 29);
+    }
+    private static int shift(long h) {
+        return (int) (h >>> 60) << 2;
+    }
+}
@@ -0,0 +1,154 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.function.Consumer;
+public final class HeapStudentRepository implements StudentRepository {
+    private static final int MIN_COMPACTION_SIZE = 64;
+    private static final int DELETE_COMPACTION_STEP = 64;
+    private final IntIntMap slotsById = new IntIntMap();
+    private final SlotCounts liveSlots = new SlotCounts();
+    private final NameInterner names = new NameInterner();
+    private final ScanCursors cursors = new ScanCursors();
+    private Student[] students = new Student[16];
+    private int size;
+    private int count;
+    private int compactFrom = -1;
+    private int compactTo;
+    @Override
+    public int size() {
+        return count;
+    }
+    @Override
+    public boolean contains(int id) {
+        return slotsById.get(id) != IntIntMap.MISSING;
+    }
+    @Override
+    public Student find(int id) {
+        int slot = slotsById.get(id);
+        if (slot == IntIntMap.MISSING) return null;
+        Student[] snapshot = students;
+        return slot < snapshot.length ? snapshot[slot] : null;
+    }
+    @Override
+    public void insert(Student student) {
+        if (size == students.length) students = Arrays.copyOf(students, size << 1);
+        String name = names.acquire(student.getName());
+        slotsById.put(student.getId(), size);
+        liveSlots.increment(size);
+        students[size++] = name == student.getName() ? student : new Student(student.getId(), name, student.getAge());
+        count++;
+    }
+    @Override
+    public void ensureCapacity(int additional) {
+        int required = size + additional;
+        if (required > students.length) students = Arrays.copyOf(students, Math.max(required, students.length << 1));
+        slotsById.ensureCapacity(count + additional);
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        int slot = slotsById.get(id);
+        if (slot == IntIntMap.MISSING) return false;
+        Student old = students[slot];
+        students[slot] = new Student(id, names.acquire(name), age);
+        names.release(old.getName());
+        return true;
+    }
+    @Override
+    public boolean remove(int id) {
+        int slot = slotsById.remove(id);
+        if (slot == IntIntMap.MISSING) return false;
+        names.release(students[slot].getName());
+        students[slot] = null;
+        liveSlots.decrement(slot);
+        count--;
+        if (compactFrom >= 0 || needsCompaction()) compact(DELETE_COMPACTION_STEP);
+        return true;
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        for (int i = 0; i < size; i++) {
+            Student s = students[i];
+            if (s != null) action.accept(s);
+        }
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        int i = (int) cursor;
+        for (int n = 0; i < size && n < limit; i++) {
+            Student s = students[i];
+            if (s == null) continue;
+            action.accept(s);
+            n++;
+        }
+        return i < size ? i : -1;
+    }
+    @Override
+    public int rowSlots() {
+        return size;
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        for (int i = fromSlot; i < toSlot; i++) {
+            Student s = students[i];
+            if (s != null) action.accept(s);
+        }
+    }
+    @Override
+    public long[] openCursor() {
+        return cursors.open(0);
+    }
+    long[] openCursor(long offset) {
+        return cursors.open(offset);
+    }
+    @Override
+    public long seek(long offset) {
+        if (offset >= count) return -1;
+        if (size == count) return offset;
+        int block = 0;
+        for (int live; offset >= (live = liveSlots.get(block)); block++) {
+            offset -= live;
+        }
+        for (int i = block << SlotCounts.BLOCK_SHIFT; ; i++) {
+            if (students[i] != null && offset-- == 0) return i;
+        }
+    }
+    @Override
+    public boolean compact(int maxSlots) {
+        if (compactFrom < 0) {
+            if (count == size) return false;
+            compactFrom = 0;
+            compactTo = 0;
+        }
+        int end = (int) Math.min(size, (long) compactFrom + maxSlots);
+        cursors.clamp(compactTo, compactFrom);
+        long nextCursor = cursors.after(compactFrom);
+        for (; compactFrom < end; compactFrom++) {
+            if (compactFrom == nextCursor) {
+                cursors.clamp(compactTo, compactFrom);
+                nextCursor = cursors.after(compactFrom);
+            }
+            Student s = students[compactFrom];
+            if (s == null) continue;
+            if (compactTo != compactFrom) {
+                students[compactTo] = s;
+                students[compactFrom] = null;
+                liveSlots.decrement(compactFrom);
+                liveSlots.increment(compactTo);
+                slotsById.put(s.getId(), compactTo);
+            }
+            compactTo++;
+        }
+        cursors.clamp(compactTo, compactFrom);
+        if (compactFrom < size) return true;
+        size = compactTo;
+        compactFrom = -1;
+        if (students.length > 64 && students.length > size << 2) students = Arrays.copyOf(students, Math.max(16, size << 1));
+        slotsById.trim();
+        return false;
+    }
+    int distinctNames() {
+        return names.size();
+    }
+    private boolean needsCompaction() {
+        return size >= MIN_COMPACTION_SIZE && count < size >>> 1;
+    }
+}
@@ -0,0 +1,185 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+final class IndexedStudentRepository implements StudentRepository {
+    private final StudentRepository delegate;
+    private final SortedLongSet byAge;
+    private final NameIndex byName;
+    private final NameSearchIndex byNameTerms;
+    private volatile boolean indexed;
+    private volatile boolean searchable;
+    IndexedStudentRepository(StudentRepository delegate) {
+        this.delegate = delegate;
+        this.byAge = new SortedLongSet();
+        this.byName = new NameIndex();
+        this.byNameTerms = new NameSearchIndex();
+    }
+    private IndexedStudentRepository(StudentRepository delegate, IndexedStudentRepository indexes) {
+        this.delegate = delegate;
+        this.byAge = indexes.byAge;
+        this.byName = indexes.byName;
+        this.byNameTerms = indexes.byNameTerms;
+        this.indexed = indexes.indexed;
+        this.searchable = indexes.searchable;
+    }
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    @Override
+    public boolean contains(int id) {
+        return delegate.contains(id);
+    }
+    @Override
+    public Student find(int id) {
+        return delegate.find(id);
+    }
+    @Override
+    public boolean optimisticReads() {
+        return delegate.optimisticReads();
+    }
+    @Override
+    public void insert(Student student) {
+        delegate.insert(student);
+        if (indexed) index(student.getId(), student.getName(), student.getAge());
+        if (searchable) byNameTerms.add(student.getName());
+    }
+    @Override
+    public void ensureCapacity(int additional) {
+        delegate.ensureCapacity(additional);
+    }
+    @Override
+    public boolean compact(int maxSlots) {
+        return delegate.compact(maxSlots);
+    }
+    @Override
+    public void insertAll(Student[] students) {
+        delegate.insertAll(students);
+        if (!indexed) return;
+        long[] keys = new long[students.length];
+        for (int i = 0; i < students.length; i++) {
+            keys[i] = ageKey(students[i].getAge(), students[i].getId());
+        }
+        Arrays.sort(keys);
+        for (long key : keys) {
+            byAge.add(key);
+        }
+        Student[] byNameOrder = students.clone();
+        Arrays.sort(byNameOrder, (a, b) -> a.getName().compareTo(b.getName()));
+        for (Student s : byNameOrder) {
+            byName.add(s.getName(), s.getId());
+            if (searchable) byNameTerms.add(s.getName());
+        }
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        if (!indexed) return delegate.update(id, name, age);
+        Student old = delegate.find(id);
+        if (old == null) return false;
+        String oldName = old.getName();
+        int oldAge = old.getAge();
+        delegate.update(id, name, age);
+        if (oldAge != age) {
+            byAge.remove(ageKey(oldAge, id));
+            byAge.add(ageKey(age, id));
+        }
+        if (!oldName.equals(name)) {
+            byName.remove(oldName, id);
+            byName.add(name, id);
+            if (searchable) {
+                byNameTerms.remove(oldName);
+                byNameTerms.add(name);
+            }
+        }
+        return true;
+    }
+    @Override
+    public boolean remove(int id) {
+        if (!indexed) return delegate.remove(id);
+        Student old = delegate.find(id);
+        if (old == null) return false;
+        byAge.remove(ageKey(old.getAge(), id));
+        byName.remove(old.getName(), id);
+        if (searchable) byNameTerms.remove(old.getName());
+        return delegate.remove(id);
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        delegate.forEach(action);
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        return delegate.scan(cursor, limit, action);
+    }
+    @Override
+    public int rowSlots() {
+        return delegate.rowSlots();
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        delegate.forEachRow(fromSlot, toSlot, action);
+    }
+    @Override
+    public void atomically(Consumer<? super StudentRepository> edits) {
+        delegate.atomically(inner -> edits.accept(inner == delegate ? this : new IndexedStudentRepository(inner, this)));
+    }
+    @Override
+    public StudentRepository snapshot() {
+        return delegate.snapshot();
+    }
+    @Override
+    public long seek(long offset) {
+        return delegate.seek(offset);
+    }
+    @Override
+    public long[] openCursor() {
+        return delegate.openCursor();
+    }
+    boolean isIndexed() {
+        return indexed;
+    }
+    void buildIndexes() {
+        byAge.clear();
+        byName.clear();
+        delegate.forEach(s -> index(s.getId(), s.getName(), s.getAge()));
+        indexed = true;
+    }
+    boolean isSearchable() {
+        return searchable;
+    }
+    void buildSearchIndex() {
+        if (!indexed) buildIndexes();
+        byNameTerms.clear();
+        delegate.forEach(s -> byNameTerms.add(s.getName()));
+        searchable = true;
+    }
+    void forEachAgeBetween(int minAge, int maxAge, Consumer<? super Student> action) {
+        byAge.forEachInRange(ageKey(minAge, 0), ageKey(maxAge, -1), key -> action.accept(delegate.find((int) key)));
+    }
+    void forEachNameWithPrefix(String prefix, Consumer<? super Student> action) {
+        byName.forEachWithPrefix(prefix, id -> action.accept(delegate.find(id)));
+    }
+    void forEachNameMatch(String query, int maxEdits, int limit, Consumer<? super Student> action) {
+        forEachWithNames(byNameTerms.fuzzy(query, maxEdits, limit), limit, action);
+    }
+    void forEachNameContaining(String text, int limit, Consumer<? super Student> action) {
+        forEachWithNames(byNameTerms.containing(text, limit), limit, action);
+    }
+    private void forEachWithNames(List<String> names, int limit, Consumer<? super Student> action) {
+        int[] remaining = {limit};
+        for (String name : names) {
+            byName.forEachWithName(name, id -> {
+                if (remaining[0]-- > 0) action.accept(delegate.find(id));
+            });
+            if (remaining[0] <= 0) return;
+        }
+    }
+    private void index(int id, String name, int age) {
+        byAge.add(ageKey(age, id));
+        byName.add(name, id);
+    }
+    private static long ageKey(int age, int id) {
+        return ((long) age << 32) | (id & 0xFFFFFFFFL);
+    }
+}
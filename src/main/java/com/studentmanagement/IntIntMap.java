@@ -0,0 +1,136 @@
+package com.studentmanagement;
+import java.util.Arrays;
+final class IntIntMap {
+    static final int MISSING = -1;
+    private static final int FREE_KEY = 0;
+    private int[] keys;
+    private int[] values;
+    private int size;
+    private int threshold;
+    private boolean hasFreeKey;
+    private int freeValue;
+    IntIntMap() {
+        this(16);
+    }
+    IntIntMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+    int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+    int get(int key) {
+        if (key == FREE_KEY) return hasFreeKey ? freeValue : MISSING;
+        int[] k = keys;
+        int[] v = values;
+        int mask = k.length - 1;
+        int i = mix(key) & mask;
+        for (int probes = 0; probes <= mask; probes++) {
+            int cur = k[i];
+            if (cur == key) return i < v.length ? v[i] : MISSING;
+            if (cur == FREE_KEY) return MISSING;
+            i = (i + 1) & mask;
+        }
+        return MISSING;
+    }
+    int put(int key, int value) {
+        if (key == FREE_KEY) {
+            int previous = hasFreeKey ? freeValue : MISSING;
+            hasFreeKey = true;
+            freeValue = value;
+            return previous;
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (true) {
+            int cur = keys[i];
+            if (cur == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (cur == FREE_KEY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size >= threshold) rehash(keys.length << 1);
+                return MISSING;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+    int remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) return MISSING;
+            hasFreeKey = false;
+            return freeValue;
+        }
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (true) {
+            int cur = keys[i];
+            if (cur == FREE_KEY) return MISSING;
+            if (cur == key) {
+                int previous = values[i];
+                shiftBack(i, mask);
+                size--;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+    void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        size = 0;
+        hasFreeKey = false;
+    }
+    void trim() {
+        int capacity = capacityFor(size);
+        if (keys.length > capacity << 1) rehash(capacity);
+    }
+    void ensureCapacity(int expectedSize) {
+        int capacity = capacityFor(expectedSize);
+        if (capacity > keys.length) rehash(capacity);
+    }
+    private void shiftBack(int gap, int mask) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            int cur = keys[i];
+            if (cur == FREE_KEY) break;
+            int home = mix(cur) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = cur;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = FREE_KEY;
+    }
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key == FREE_KEY) continue;
+            int i = mix(key) & mask;
+            while (keys[i] != FREE_KEY) i = (i + 1) & mask;
+            keys[i] = key;
+            values[i] = oldValues[j];
+        }
+    }
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        threshold = (int) (capacity * 0.75f);
+    }
+    private static int capacityFor(int expectedSize) {
+        long needed = Math.max(4L, (long) Math.ceil(expectedSize / 0.75) + 1);
+        if (needed > (1 << 30)) throw new IllegalArgumentException("Capacity too large: " + expectedSize);
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,66 @@
+package com.studentmanagement;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >>> 1;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKETS + SUB_BUCKETS;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+    void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(indexOf(value));
+        count.increment();
+        total.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) current = max.get();
+    }
+    long count() {
+        return count.sum();
+    }
+    long max() {
+        return max.get();
+    }
+    double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) total.sum() / n;
+    }
+    long valueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long n = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            n += snapshot[i];
+        }
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return Math.min(highestEquivalentValue(i), max.get());
+        }
+        return max.get();
+    }
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        count.reset();
+        total.reset();
+        max.set(0);
+    }
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS + 1;
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long subBucket = index - (long) shift * HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,154 @@
+package com.studentmanagement;
+import java.util.BitSet;
+import java.util.function.Consumer;
+final class MappedStudentRepository implements StudentRepository {
+    private final StudentSnapshot base;
+    private final BitSet removed = new BitSet();
+    private final SlotCounts removedRows = new SlotCounts();
+    private final HeapStudentRepository appended = new HeapStudentRepository();
+    private Student[] overrides;
+    private int baseCount;
+    MappedStudentRepository(StudentSnapshot base) {
+        this.base = base;
+        this.baseCount = base.count();
+    }
+    @Override
+    public int size() {
+        return baseCount + appended.size();
+    }
+    @Override
+    public boolean contains(int id) {
+        return liveRow(id) >= 0 || appended.contains(id);
+    }
+    @Override
+    public Student find(int id) {
+        int row = liveRow(id);
+        return row >= 0 ? materialize(row) : appended.find(id);
+    }
+    @Override
+    public void insert(Student student) {
+        appended.insert(student);
+    }
+    @Override
+    public void ensureCapacity(int additional) {
+        appended.ensureCapacity(additional);
+    }
+    @Override
+    public boolean compact(int maxSlots) {
+        return appended.compact(maxSlots);
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        int row = liveRow(id);
+        if (row < 0) return appended.update(id, name, age);
+        if (overrides == null) overrides = new Student[base.count()];
+        overrides[row] = new Student(id, name, age);
+        return true;
+    }
+    @Override
+    public boolean remove(int id) {
+        int row = liveRow(id);
+        if (row < 0) return appended.remove(id);
+        removed.set(row);
+        removedRows.increment(row);
+        if (overrides != null) overrides[row] = null;
+        baseCount--;
+        return true;
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        int rows = base.count();
+        for (int row = removed.nextClearBit(0); row < rows; row = removed.nextClearBit(row + 1)) {
+            action.accept(materialize(row));
+        }
+        appended.forEach(action);
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        int rows = base.count();
+        int n = 0;
+        int row = (int) Math.min(cursor, rows);
+        for (row = removed.nextClearBit(row); row < rows && n < limit; row = removed.nextClearBit(row + 1)) {
+            action.accept(materialize(row));
+            n++;
+        }
+        if (row < rows) return row;
+        int remaining = limit - n;
+        long next = appended.scan(Math.max(0, cursor - rows), remaining, action);
+        return next < 0 ? -1 : rows + next;
+    }
+    @Override
+    public int rowSlots() {
+        return base.count() + appended.rowSlots();
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        int rows = base.count();
+        Student[] o = overrides;
+        Row r = new Row();
+        for (int row = removed.nextClearBit(fromSlot); row < Math.min(toSlot, rows); row = removed.nextClearBit(row + 1)) {
+            if (o != null && o[row] != null) {
+                action.accept(o[row]);
+            } else {
+                r.row = row;
+                action.accept(r);
+            }
+        }
+        if (toSlot > rows) appended.forEachRow(Math.max(0, fromSlot - rows), toSlot - rows, action);
+    }
+    @Override
+    public long seek(long offset) {
+        if (offset >= size()) return -1;
+        int rows = base.count();
+        if (offset >= baseCount) return rows + appended.seek(offset - baseCount);
+        if (baseCount == rows) return offset;
+        int block = 0;
+        for (int live; offset >= (live = Math.min(SlotCounts.BLOCK_SIZE, rows - (block << SlotCounts.BLOCK_SHIFT)) - removedRows.get(block)); block++) {
+            offset -= live;
+        }
+        int row = removed.nextClearBit(block << SlotCounts.BLOCK_SHIFT);
+        for (; offset > 0; offset--) {
+            row = removed.nextClearBit(row + 1);
+        }
+        return row;
+    }
+    @Override
+    public long[] openCursor() {
+        return appended.openCursor(base.count());
+    }
+    private int liveRow(int id) {
+        int row = base.indexOf(id);
+        return row >= 0 && !removed.get(row) ? row : -1;
+    }
+    private Student materialize(int row) {
+        Student[] o = overrides;
+        if (o != null && o[row] != null) return o[row];
+        return new Student(base.id(row), base.name(row), base.age(row));
+    }
+    private final class Row implements StudentRow {
+        private int row;
+        private String prefix;
+        private byte[] prefixBytes;
+        @Override
+        public int getId() {
+            return base.id(row);
+        }
+        @Override
+        public String getName() {
+            return base.name(row);
+        }
+        @Override
+        public int getAge() {
+            return base.age(row);
+        }
+        @Override
+        public boolean nameStartsWith(String prefix) {
+            if (prefix != this.prefix) {
+                this.prefix = prefix;
+                prefixBytes = NameDictionary.prefixBytes(prefix);
+            }
+            if (prefixBytes == null) return getName().startsWith(prefix);
+            return base.nameStartsWith(row, prefixBytes);
+        }
+    }
+}
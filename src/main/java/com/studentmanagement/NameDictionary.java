@@ -0,0 +1,181 @@
+package com.studentmanagement;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+final class NameDictionary {
+    static final int MISSING = -1;
+    private static final int EMPTY = 0;
+    private static final int MIN_COMPACTION_BYTES = 1 << 16;
+    private byte[] pool = new byte[256];
+    private int poolSize;
+    private long liveBytes;
+    private int[] starts = new int[16];
+    private int[] refs = new int[16];
+    private int[] table = new int[32];
+    private int codes;
+    private int size;
+    private int free = MISSING;
+    int size() {
+        return size;
+    }
+    long poolBytes() {
+        return poolSize;
+    }
+    long liveBytes() {
+        return liveBytes;
+    }
+    int encode(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes, 0, bytes.length);
+        int mask = table.length - 1;
+        int i = hash & mask;
+        while (true) {
+            int entry = table[i];
+            if (entry == EMPTY) break;
+            int code = entry - 1;
+            if (matches(code, bytes)) {
+                refs[code]++;
+                return code;
+            }
+            i = (i + 1) & mask;
+        }
+        int code = append(bytes);
+        table[i] = code + 1;
+        if (size * 4 > table.length * 3) rehash(table.length << 1);
+        return code;
+    }
+    int lookup(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes, 0, bytes.length);
+        int mask = table.length - 1;
+        for (int i = hash & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int code = table[i] - 1;
+            if (matches(code, bytes)) return code;
+        }
+        return MISSING;
+    }
+    void release(int code) {
+        if (--refs[code] > 0) return;
+        unlink(code);
+        liveBytes -= entryEnd(code) - starts[code];
+        starts[code] = free;
+        free = code;
+        size--;
+        if (poolSize >= MIN_COMPACTION_BYTES && poolSize - liveBytes > liveBytes) compact();
+    }
+    String decode(int code) {
+        int start = dataStart(code);
+        return new String(pool, start, length(code), StandardCharsets.UTF_8);
+    }
+    boolean startsWith(int code, byte[] prefix) {
+        int start = dataStart(code);
+        return prefix.length <= length(code) && Arrays.equals(pool, start, start + prefix.length, prefix, 0, prefix.length);
+    }
+    static byte[] prefixBytes(String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.isSurrogate(prefix.charAt(i))) return null;
+        }
+        return prefix.getBytes(StandardCharsets.UTF_8);
+    }
+    private boolean matches(int code, byte[] bytes) {
+        int start = dataStart(code);
+        return length(code) == bytes.length && Arrays.equals(pool, start, start + bytes.length, bytes, 0, bytes.length);
+    }
+    private int length(int code) {
+        int position = starts[code];
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = pool[position++];
+            length |= (b & 0x7F) << shift;
+            if (b >= 0) return length;
+        }
+    }
+    private int dataStart(int code) {
+        int position = starts[code];
+        while (pool[position] < 0) position++;
+        return position + 1;
+    }
+    private int entryEnd(int code) {
+        return dataStart(code) + length(code);
+    }
+    private int hashOf(int code) {
+        int start = dataStart(code);
+        return hash(pool, start, start + length(code));
+    }
+    private int append(byte[] bytes) {
+        int code = free;
+        if (code != MISSING) {
+            free = starts[code];
+        } else {
+            code = codes++;
+            if (code == starts.length) {
+                starts = Arrays.copyOf(starts, code << 1);
+                refs = Arrays.copyOf(refs, code << 1);
+            }
+        }
+        int required = bytes.length + 5;
+        if (poolSize + required > pool.length) {
+            pool = Arrays.copyOf(pool, Math.max(pool.length << 1, poolSize + required));
+        }
+        int start = poolSize;
+        int position = start;
+        for (int length = bytes.length; ; length >>>= 7) {
+            if (length < 0x80) {
+                pool[position++] = (byte) length;
+                break;
+            }
+            pool[position++] = (byte) (length | 0x80);
+        }
+        System.arraycopy(bytes, 0, pool, position, bytes.length);
+        poolSize = position + bytes.length;
+        starts[code] = start;
+        refs[code] = 1;
+        liveBytes += poolSize - start;
+        size++;
+        return code;
+    }
+    private void unlink(int code) {
+        int mask = table.length - 1;
+        int hole = hashOf(code) & mask;
+        while (table[hole] != code + 1) hole = (hole + 1) & mask;
+        for (int i = (hole + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = hashOf(table[i] - 1) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                table[hole] = table[i];
+                hole = i;
+            }
+        }
+        table[hole] = EMPTY;
+    }
+    private void compact() {
+        byte[] compacted = new byte[(int) Math.max(256, liveBytes + (liveBytes >>> 1))];
+        int position = 0;
+        for (int code = 0; code < codes; code++) {
+            if (refs[code] == 0) continue;
+            int start = starts[code];
+            int length = entryEnd(code) - start;
+            System.arraycopy(pool, start, compacted, position, length);
+            starts[code] = position;
+            position += length;
+        }
+        pool = compacted;
+        poolSize = position;
+    }
+    private void rehash(int capacity) {
+        int[] rehashed = new int[capacity];
+        int mask = capacity - 1;
+        for (int code = 0; code < codes; code++) {
+            if (refs[code] == 0) continue;
+            int i = hashOf(code) & mask;
+            while (rehashed[i] != EMPTY) i = (i + 1) & mask;
+            rehashed[i] = code + 1;
+        }
+        table = rehashed;
+    }
+    private static int hash(byte[] bytes, int from, int to) {
+        int h = 0x811C9DC5;
+        for (int i = from; i < to; i++) {
+            h = (h ^ bytes[i]) * 0x01000193;
+        }
+        return h ^ (h >>> 16);
+    }
+}
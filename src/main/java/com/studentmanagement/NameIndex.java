@@ -0,0 +1,147 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+final class NameIndex {
+    private static final int BLOCK_SIZE = 256;
+    private String[][] names = {new String[BLOCK_SIZE]};
+    private int[][] ids = {new int[BLOCK_SIZE]};
+    private int[] sizes = new int[1];
+    private int blockCount = 1;
+    private int size;
+    int size() {
+        return size;
+    }
+    boolean add(String name, int id) {
+        int b = blockFor(name, id);
+        int pos = search(b, name, id);
+        if (pos >= 0) return false;
+        pos = -pos - 1;
+        if (sizes[b] == BLOCK_SIZE) {
+            split(b);
+            if (pos > BLOCK_SIZE / 2) {
+                b++;
+                pos -= BLOCK_SIZE / 2;
+            }
+        }
+        int moved = sizes[b] - pos;
+        System.arraycopy(names[b], pos, names[b], pos + 1, moved);
+        System.arraycopy(ids[b], pos, ids[b], pos + 1, moved);
+        names[b][pos] = name;
+        ids[b][pos] = id;
+        sizes[b]++;
+        size++;
+        return true;
+    }
+    boolean remove(String name, int id) {
+        int b = blockFor(name, id);
+        int pos = search(b, name, id);
+        if (pos < 0) return false;
+        int moved = sizes[b] - pos - 1;
+        System.arraycopy(names[b], pos + 1, names[b], pos, moved);
+        System.arraycopy(ids[b], pos + 1, ids[b], pos, moved);
+        sizes[b]--;
+        names[b][sizes[b]] = null;
+        size--;
+        if (sizes[b] == 0 && blockCount > 1) dropBlock(b);
+        return true;
+    }
+    void forEachWithPrefix(String prefix, IntConsumer action) {
+        int b = blockFor(prefix, Integer.MIN_VALUE);
+        int pos = search(b, prefix, Integer.MIN_VALUE);
+        if (pos < 0) pos = -pos - 1;
+        for (; b < blockCount; b++, pos = 0) {
+            String[] blockNames = names[b];
+            int[] blockIds = ids[b];
+            int end = sizes[b];
+            for (; pos < end; pos++) {
+                if (!blockNames[pos].startsWith(prefix)) return;
+                action.accept(blockIds[pos]);
+            }
+        }
+    }
+    void forEachWithName(String name, IntConsumer action) {
+        int b = blockFor(name, Integer.MIN_VALUE);
+        int pos = search(b, name, Integer.MIN_VALUE);
+        if (pos < 0) pos = -pos - 1;
+        for (; b < blockCount; b++, pos = 0) {
+            String[] blockNames = names[b];
+            int[] blockIds = ids[b];
+            int end = sizes[b];
+            for (; pos < end; pos++) {
+                if (!blockNames[pos].equals(name)) return;
+                action.accept(blockIds[pos]);
+            }
+        }
+    }
+    void clear() {
+        names = new String[][] {new String[BLOCK_SIZE]};
+        ids = new int[][] {new int[BLOCK_SIZE]};
+        sizes = new int[1];
+        blockCount = 1;
+        size = 0;
+    }
+    private int blockFor(String name, int id) {
+        int low = 1;
+        int high = blockCount - 1;
+        int result = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (compare(names[mid][0], ids[mid][0], name, id) <= 0) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+    private int search(int b, String name, int id) {
+        String[] blockNames = names[b];
+        int[] blockIds = ids[b];
+        int low = 0;
+        int high = sizes[b] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(blockNames[mid], blockIds[mid], name, id);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -(low + 1);
+    }
+    private static int compare(String name1, int id1, String name2, int id2) {
+        int cmp = name1.compareTo(name2);
+        return cmp != 0 ? cmp : Integer.compare(id1, id2);
+    }
+    private void split(int b) {
+        if (blockCount == sizes.length) {
+            names = Arrays.copyOf(names, blockCount << 1);
+            ids = Arrays.copyOf(ids, blockCount << 1);
+            sizes = Arrays.copyOf(sizes, blockCount << 1);
+        }
+        int tail = blockCount - b - 1;
+        System.arraycopy(names, b + 1, names, b + 2, tail);
+        System.arraycopy(ids, b + 1, ids, b + 2, tail);
+        System.arraycopy(sizes, b + 1, sizes, b + 2, tail);
+        int half = BLOCK_SIZE / 2;
+        String[] upperNames = new String[BLOCK_SIZE];
+        int[] upperIds = new int[BLOCK_SIZE];
+        System.arraycopy(names[b], half, upperNames, 0, BLOCK_SIZE - half);
+        System.arraycopy(ids[b], half, upperIds, 0, BLOCK_SIZE - half);
+        Arrays.fill(names[b], half, BLOCK_SIZE, null);
+        names[b + 1] = upperNames;
+        ids[b + 1] = upperIds;
+        sizes[b + 1] = BLOCK_SIZE - half;
+        sizes[b] = half;
+        blockCount++;
+    }
+    private void dropBlock(int b) {
+        int tail = blockCount - b - 1;
+        System.arraycopy(names, b + 1, names, b, tail);
+        System.arraycopy(ids, b + 1, ids, b, tail);
+        System.arraycopy(sizes, b + 1, sizes, b, tail);
+        blockCount--;
+        names[blockCount] = null;
+        ids[blockCount] = null;
+    }
+}
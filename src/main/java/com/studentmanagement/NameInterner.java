@@ -0,0 +1,65 @@
+package com.studentmanagement;
+final class NameInterner {
+    private static final int MIN_CAPACITY = 16;
+    private String[] names = new String[MIN_CAPACITY];
+    private int[] refs = new int[MIN_CAPACITY];
+    private int size;
+    int size() {
+        return size;
+    }
+    String acquire(String name) {
+        int mask = names.length - 1;
+        int i = slot(name, mask);
+        for (String existing; (existing = names[i]) != null; i = (i + 1) & mask) {
+            if (existing.equals(name)) {
+                refs[i]++;
+                return existing;
+            }
+        }
+        names[i] = name;
+        refs[i] = 1;
+        if (++size * 4 > names.length * 3) resize(names.length << 1);
+        return name;
+    }
+    void release(String name) {
+        int mask = names.length - 1;
+        int hole = slot(name, mask);
+        while (true) {
+            String existing = names[hole];
+            if (existing == null) return;
+            if (existing.equals(name)) break;
+            hole = (hole + 1) & mask;
+        }
+        if (--refs[hole] > 0) return;
+        for (int i = (hole + 1) & mask; names[i] != null; i = (i + 1) & mask) {
+            int home = slot(names[i], mask);
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                names[hole] = names[i];
+                refs[hole] = refs[i];
+                hole = i;
+            }
+        }
+        names[hole] = null;
+        refs[hole] = 0;
+        if (--size * 8 < names.length && names.length > MIN_CAPACITY) resize(names.length >>> 1);
+    }
+    private void resize(int capacity) {
+        String[] oldNames = names;
+        int[] oldRefs = refs;
+        names = new String[capacity];
+        refs = new int[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldNames.length; j++) {
+            String name = oldNames[j];
+            if (name == null) continue;
+            int i = slot(name, mask);
+            while (names[i] != null) i = (i + 1) & mask;
+            names[i] = name;
+            refs[i] = oldRefs[j];
+        }
+    }
+    private static int slot(String name, int mask) {
+        int h = name.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,533 @@
+package com.studentmanagement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+final class NameSearchIndex {
+    static final int MAX_EDITS = 3;
+    private static final char PAD = '\u0000';
+    private static final int MIN_REBUILD_NAMES = 1024;
+    private static final int UNMATCHED = IntIntMap.MISSING;
+    private static final int PROBED_TERMS = 16;
+    private String[] names = new String[16];
+    private int[] refs = new int[16];
+    private int[] nameTable = new int[32];
+    private int nameCount;
+    private int liveNames;
+    private String[] terms = new String[16];
+    private Postings[] termNames = new Postings[16];
+    private int[] termTable = new int[32];
+    private int termCount;
+    private IntIntMap gramSlots = new IntIntMap();
+    private Postings[] gramTerms = new Postings[16];
+    private int gramCount;
+    private static final ThreadLocal<int[]> COUNTS = ThreadLocal.withInitial(() -> new int[16]);
+    int size() {
+        return liveNames;
+    }
+    int termCount() {
+        return termCount;
+    }
+    void clear() {
+        names = new String[16];
+        refs = new int[16];
+        nameTable = new int[32];
+        nameCount = 0;
+        liveNames = 0;
+        terms = new String[16];
+        termNames = new Postings[16];
+        termTable = new int[32];
+        termCount = 0;
+        gramSlots = new IntIntMap();
+        gramTerms = new Postings[16];
+        gramCount = 0;
+    }
+    void add(String name) {
+        add(name, 1);
+    }
+    void remove(String name) {
+        int mask = nameTable.length - 1;
+        int hole = spread(name.hashCode()) & mask;
+        while (true) {
+            int entry = nameTable[hole];
+            if (entry == 0) return;
+            if (names[entry - 1].equals(name)) break;
+            hole = (hole + 1) & mask;
+        }
+        int id = nameTable[hole] - 1;
+        if (--refs[id] > 0) return;
+        for (int i = (hole + 1) & mask; nameTable[i] != 0; i = (i + 1) & mask) {
+            int home = spread(names[nameTable[i] - 1].hashCode()) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                nameTable[hole] = nameTable[i];
+                hole = i;
+            }
+        }
+        nameTable[hole] = 0;
+        names[id] = null;
+        liveNames--;
+        if (nameCount - liveNames > Math.max(liveNames, MIN_REBUILD_NAMES)) rebuild();
+    }
+    List<String> fuzzy(String query, int maxEdits, int limit) {
+        String[] tokens = tokens(query);
+        Matches[] matches = new Matches[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            matches[i] = similarTerms(tokens[i], maxEdits);
+        }
+        return rank(matches, limit);
+    }
+    List<String> containing(String text, int limit) {
+        String[] tokens = tokens(text);
+        Matches[] matches = new Matches[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            matches[i] = containingTerms(tokens[i]);
+        }
+        return rank(matches, limit);
+    }
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        if (Math.abs(n - m) > max) return max + 1;
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) previous[j] = j;
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                char cb = b.charAt(j - 1);
+                int cost = ca == cb ? 0 : 1;
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) d = Math.min(d, previous2[j - 2] + 1);
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) return max + 1;
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[m], max + 1);
+    }
+    private void add(String name, int count) {
+        int mask = nameTable.length - 1;
+        int i = spread(name.hashCode()) & mask;
+        for (int entry; (entry = nameTable[i]) != 0; i = (i + 1) & mask) {
+            if (names[entry - 1].equals(name)) {
+                refs[entry - 1] += count;
+                return;
+            }
+        }
+        int id = nameCount++;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, id << 1);
+            refs = Arrays.copyOf(refs, id << 1);
+        }
+        names[id] = name;
+        refs[id] = count;
+        nameTable[i] = id + 1;
+        liveNames++;
+        if (liveNames * 4 > nameTable.length * 3) nameTable = rehashNames(nameTable.length << 1);
+        for (String token : tokens(name)) {
+            int term = term(token);
+            termNames[term].add(id);
+        }
+    }
+    private void rebuild() {
+        String[] liveNameList = new String[liveNames];
+        int[] liveRefs = new int[liveNames];
+        int n = 0;
+        for (int id = 0; id < nameCount; id++) {
+            if (names[id] == null) continue;
+            liveNameList[n] = names[id];
+            liveRefs[n++] = refs[id];
+        }
+        clear();
+        for (int i = 0; i < n; i++) {
+            add(liveNameList[i], liveRefs[i]);
+        }
+    }
+    private int[] rehashNames(int capacity) {
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < nameCount; id++) {
+            if (names[id] == null) continue;
+            int i = spread(names[id].hashCode()) & mask;
+            while (table[i] != 0) i = (i + 1) & mask;
+            table[i] = id + 1;
+        }
+        return table;
+    }
+    private int term(String token) {
+        int existing = termId(token.toCharArray(), 0, token.length());
+        if (existing != UNMATCHED) return existing;
+        int id = termCount++;
+        if (id == terms.length) {
+            terms = Arrays.copyOf(terms, id << 1);
+            termNames = Arrays.copyOf(termNames, id << 1);
+        }
+        terms[id] = token;
+        termNames[id] = new Postings();
+        if (termCount * 4 > termTable.length * 3) {
+            rehashTerms(termTable.length << 1);
+        } else {
+            int mask = termTable.length - 1;
+            int i = spread(token.hashCode()) & mask;
+            while (termTable[i] != 0) i = (i + 1) & mask;
+            termTable[i] = id + 1;
+        }
+        for (int gram : bigrams(token)) {
+            postGram(gram, id);
+        }
+        for (int gram : grams(token, true)) {
+            postGram(gram, id);
+        }
+        return id;
+    }
+    private void postGram(int gram, int id) {
+        int slot = gramSlots.get(gram);
+        if (slot == IntIntMap.MISSING) {
+            slot = gramCount++;
+            if (slot == gramTerms.length) gramTerms = Arrays.copyOf(gramTerms, slot << 1);
+            gramTerms[slot] = new Postings();
+            gramSlots.put(gram, slot);
+        }
+        gramTerms[slot].add(id);
+    }
+    private void rehashTerms(int capacity) {
+        int[] table = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < termCount; id++) {
+            int i = spread(terms[id].hashCode()) & mask;
+            while (table[i] != 0) i = (i + 1) & mask;
+            table[i] = id + 1;
+        }
+        termTable = table;
+    }
+    private int termId(char[] chars, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) h = 31 * h + chars[i];
+        int mask = termTable.length - 1;
+        for (int i = spread(h) & mask, entry; (entry = termTable[i]) != 0; i = (i + 1) & mask) {
+            String term = terms[entry - 1];
+            if (term.length() == to - from && regionEquals(term, chars, from)) return entry - 1;
+        }
+        return UNMATCHED;
+    }
+    private Matches similarTerms(String token, int maxEdits) {
+        Matches matches = new Matches(token);
+        if (maxEdits == 0) {
+            int id = termId(token.toCharArray(), 0, token.length());
+            if (id != UNMATCHED) matches.add(id, 0);
+            return matches;
+        }
+        int[] grams = grams(token, true);
+        int threshold = grams.length - 4 * maxEdits;
+        if (threshold <= 0) {
+            grams = bigrams(token);
+            threshold = grams.length - 3 * maxEdits;
+        }
+        if (threshold <= 0) {
+            for (int id = 0; id < termCount; id++) {
+                matches.addIfSimilar(id, maxEdits);
+            }
+            return matches;
+        }
+        Postings[] lists = rarest(grams, grams.length);
+        int seeding = grams.length - threshold + 1;
+        int[] counts = COUNTS.get();
+        if (counts.length < termCount) {
+            counts = new int[Math.max(termCount, counts.length << 1)];
+            COUNTS.set(counts);
+        }
+        int[] candidates = new int[64];
+        int candidateCount = 0;
+        for (int g = 0; g < lists.length; g++) {
+            Postings list = lists[g];
+            if (g >= seeding && (long) candidateCount * (32 - Integer.numberOfLeadingZeros(list.size)) < list.size) {
+                for (int k = 0; k < candidateCount; k++) {
+                    if (Arrays.binarySearch(list.ids, 0, list.size, candidates[k]) >= 0) counts[candidates[k]]++;
+                }
+                continue;
+            }
+            for (int k = 0; k < list.size; k++) {
+                int id = list.ids[k];
+                if (counts[id] > 0) {
+                    counts[id]++;
+                } else if (g < seeding) {
+                    counts[id] = 1;
+                    if (candidateCount == candidates.length) candidates = Arrays.copyOf(candidates, candidateCount << 1);
+                    candidates[candidateCount++] = id;
+                }
+            }
+        }
+        for (int k = 0; k < candidateCount; k++) {
+            int id = candidates[k];
+            if (counts[id] >= threshold) matches.addIfSimilar(id, maxEdits);
+            counts[id] = 0;
+        }
+        return matches;
+    }
+    private Matches containingTerms(String token) {
+        Matches matches = new Matches(token);
+        if (token.length() < 3) {
+            for (int id = 0; id < termCount; id++) {
+                matches.addIfContains(id);
+            }
+            return matches;
+        }
+        Postings rarest = rarest(grams(token, false), 1)[0];
+        for (int k = 0; k < rarest.size; k++) {
+            matches.addIfContains(rarest.ids[k]);
+        }
+        return matches;
+    }
+    private Postings[] rarest(int[] grams, int count) {
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            int slot = gramSlots.get(grams[i]);
+            lists[i] = slot == IntIntMap.MISSING ? Postings.EMPTY : gramTerms[slot];
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+        return Arrays.copyOf(lists, Math.min(count, lists.length));
+    }
+    private List<String> rank(Matches[] matches, int limit) {
+        if (matches.length == 0 || limit <= 0) return List.of();
+        int driver = 0;
+        long driverSize = Long.MAX_VALUE;
+        for (int i = 0; i < matches.length; i++) {
+            long size = 0;
+            for (int k = 0; k < matches[i].size; k++) size += termNames[matches[i].terms[k]].size;
+            if (size == 0) return List.of();
+            if (size < driverSize) {
+                driver = i;
+                driverSize = size;
+            }
+        }
+        for (Matches m : matches) m.sort();
+        Matches drive = matches[driver];
+        boolean single = matches.length == 1;
+        IntIntMap seen = drive.size > 1 ? new IntIntMap() : null;
+        TopK top = new TopK(limit);
+        for (int k = 0; k < drive.size; k++) {
+            long bound = key(drive.ranks[k], 0);
+            if (top.full() && bound > top.max()) break;
+            Postings postings = termNames[drive.terms[k]];
+            for (int p = 0; p < postings.size; p++) {
+                int id = postings.ids[p];
+                String name = names[id];
+                if (name == null) continue;
+                long key = bound | id;
+                if (single && top.full() && key > top.max()) break;
+                if (seen != null && seen.put(id, 0) != IntIntMap.MISSING) continue;
+                if (!single) {
+                    key = score(id, name, matches, driver, drive.ranks[k]);
+                    if (key < 0) continue;
+                    key |= id;
+                }
+                top.offer(key);
+            }
+        }
+        long[] ranked = top.sorted();
+        List<String> result = new ArrayList<>(ranked.length);
+        for (long key : ranked) {
+            result.add(names[(int) (key & Integer.MAX_VALUE)]);
+        }
+        return result;
+    }
+    private long score(int id, String name, Matches[] matches, int driver, int driverRank) {
+        int edits = driverRank >>> 16;
+        int lengthDiff = driverRank & 0xFFFF;
+        for (int i = 0; i < matches.length; i++) {
+            if (i == driver) continue;
+            int rank = matches[i].rankOf(id, name);
+            if (rank < 0) return -1;
+            edits += rank >>> 16;
+            lengthDiff += rank & 0xFFFF;
+        }
+        return key(edits << 16 | Math.min(lengthDiff, 0xFFFF), 0);
+    }
+    private static long key(int rank, int id) {
+        return ((long) rank << 31) | id;
+    }
+    private static String[] tokens(String text) {
+        List<String> tokens = new ArrayList<>(4);
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            StringBuilder token = new StringBuilder();
+            while (i < length && Character.isLetterOrDigit(text.charAt(i))) token.append(Character.toLowerCase(text.charAt(i++)));
+            String t = token.toString();
+            if (!tokens.contains(t)) tokens.add(t);
+        }
+        return tokens.toArray(new String[0]);
+    }
+    private static int[] grams(String token, boolean padded) {
+        String s = padded ? "" + PAD + PAD + token + PAD + PAD : token;
+        int count = Math.max(0, s.length() - 2);
+        int[] grams = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int gram = gram(s.charAt(i), s.charAt(i + 1), s.charAt(i + 2));
+            boolean duplicate = false;
+            for (int j = 0; j < n && !duplicate; j++) duplicate = grams[j] == gram;
+            if (!duplicate) grams[n++] = gram;
+        }
+        return n == count ? grams : Arrays.copyOf(grams, n);
+    }
+    private static int[] bigrams(String token) {
+        String s = PAD + token + PAD;
+        int count = s.length() - 1;
+        int[] grams = new int[count];
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            int gram = Integer.MIN_VALUE | s.charAt(i) << 16 | s.charAt(i + 1);
+            boolean duplicate = false;
+            for (int j = 0; j < n && !duplicate; j++) duplicate = grams[j] == gram;
+            if (!duplicate) grams[n++] = gram;
+        }
+        return n == count ? grams : Arrays.copyOf(grams, n);
+    }
+    private static int gram(char a, char b, char c) {
+        if (a < 1024 && b < 1024 && c < 1024) return a << 20 | b << 10 | c;
+        int h = (a * 31 + b) * 31 + c;
+        return (h & 0x3FFFFFFF) | 0x40000000;
+    }
+    private static boolean regionEquals(String term, char[] chars, int from) {
+        for (int i = 0; i < term.length(); i++) {
+            if (term.charAt(i) != chars[from + i]) return false;
+        }
+        return true;
+    }
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    private final class Matches {
+        private final String token;
+        private int[] terms = new int[8];
+        private int[] ranks = new int[8];
+        private int size;
+        private IntIntMap byTerm;
+        private char[] scratch = new char[64];
+        Matches(String token) {
+            this.token = token;
+        }
+        void add(int term, int score) {
+            if (size == terms.length) {
+                terms = Arrays.copyOf(terms, size << 1);
+                ranks = Arrays.copyOf(ranks, size << 1);
+            }
+            int lengthDiff = Math.min(Math.abs(NameSearchIndex.this.terms[term].length() - token.length()), 0xFFFF);
+            terms[size] = term;
+            ranks[size++] = score << 16 | lengthDiff;
+            byTerm = null;
+        }
+        void addIfSimilar(int term, int maxEdits) {
+            int d = distance(token, NameSearchIndex.this.terms[term], maxEdits);
+            if (d <= maxEdits) add(term, d);
+        }
+        void addIfContains(int term) {
+            String candidate = NameSearchIndex.this.terms[term];
+            if (candidate.equals(token)) add(term, 0);
+            else if (candidate.startsWith(token)) add(term, 1);
+            else if (candidate.contains(token)) add(term, 2);
+        }
+        void sort() {
+            long[] sorted = new long[size];
+            for (int k = 0; k < size; k++) sorted[k] = (long) ranks[k] << 32 | terms[k];
+            Arrays.sort(sorted);
+            for (int k = 0; k < size; k++) {
+                ranks[k] = (int) (sorted[k] >>> 32);
+                terms[k] = (int) sorted[k];
+            }
+        }
+        int rankOf(int id, String name) {
+            if (size <= PROBED_TERMS) {
+                for (int k = 0; k < size; k++) {
+                    Postings postings = termNames[terms[k]];
+                    if (Arrays.binarySearch(postings.ids, 0, postings.size, id) >= 0) return ranks[k];
+                }
+                return -1;
+            }
+            if (byTerm == null) {
+                byTerm = new IntIntMap(size);
+                for (int k = 0; k < size; k++) byTerm.put(terms[k], ranks[k]);
+            }
+            int length = name.length();
+            if (length > scratch.length) scratch = new char[Math.max(length, scratch.length << 1)];
+            char[] chars = scratch;
+            for (int i = 0; i < length; i++) chars[i] = Character.toLowerCase(name.charAt(i));
+            int best = Integer.MAX_VALUE;
+            for (int i = 0; i < length; ) {
+                if (!Character.isLetterOrDigit(chars[i])) {
+                    i++;
+                    continue;
+                }
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(chars[i])) i++;
+                int term = termId(chars, start, i);
+                int rank = term == UNMATCHED ? -1 : byTerm.get(term);
+                if (rank >= 0) best = Math.min(best, rank);
+            }
+            return best == Integer.MAX_VALUE ? -1 : best;
+        }
+    }
+    private static final class Postings {
+        static final Postings EMPTY = new Postings();
+        private int[] ids = new int[2];
+        private int size;
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size << 1);
+            ids[size++] = id;
+        }
+    }
+    private static final class TopK {
+        private final int limit;
+        private long[] heap;
+        private int size;
+        TopK(int limit) {
+            this.limit = limit;
+            this.heap = new long[Math.min(limit, 64)];
+        }
+        void offer(long key) {
+            if (size < limit) {
+                if (size == heap.length) heap = Arrays.copyOf(heap, (int) Math.min(limit, (long) size << 1));
+                int i = size++;
+                while (i > 0 && heap[(i - 1) >>> 1] < key) {
+                    heap[i] = heap[(i - 1) >>> 1];
+                    i = (i - 1) >>> 1;
+                }
+                heap[i] = key;
+            } else if (key < heap[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) break;
+                    if (child + 1 < size && heap[child + 1] > heap[child]) child++;
+                    if (heap[child] <= key) break;
+                    heap[i] = heap[child];
+                    i = child;
+                }
+                heap[i] = key;
+            }
+        }
+        boolean full() {
+            return size == limit;
+        }
+        long max() {
+            return heap[0];
+        }
+        long[] sorted() {
+            long[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
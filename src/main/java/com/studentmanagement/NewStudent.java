@@ -0,0 +1,7 @@
+package com.studentmanagement;
+import java.util.Objects;
+public record NewStudent(String name, int age) {
+    public NewStudent {
+        Objects.requireNonNull(name, "name");
+    }
+}
@@ -0,0 +1,38 @@
+package com.studentmanagement;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+final class ScanCursors {
+    private final List<Tracked> open = new ArrayList<>();
+    synchronized long[] open(long offset) {
+        long[] cursor = new long[1];
+        open.removeIf(tracked -> tracked.cursor.get() == null);
+        open.add(new Tracked(new WeakReference<>(cursor), offset));
+        return cursor;
+    }
+    synchronized long after(int slot) {
+        long next = Long.MAX_VALUE;
+        for (Iterator<Tracked> it = open.iterator(); it.hasNext(); ) {
+            Tracked tracked = it.next();
+            long[] cursor = tracked.cursor.get();
+            if (cursor == null) {
+                it.remove();
+                continue;
+            }
+            long at = cursor[0] - tracked.offset;
+            if (at > slot && at < next) next = at;
+        }
+        return next;
+    }
+    synchronized void clamp(int from, int to) {
+        for (Tracked tracked : open) {
+            long[] cursor = tracked.cursor.get();
+            if (cursor == null) continue;
+            long at = cursor[0] - tracked.offset;
+            if (at >= from && at <= to) cursor[0] = tracked.offset + from;
+        }
+    }
+    private record Tracked(WeakReference<long[]> cursor, long offset) {
+    }
+}
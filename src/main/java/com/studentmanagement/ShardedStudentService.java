@@ -0,0 +1,142 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+public class ShardedStudentService implements AutoCloseable {
+    private static final Comparator<Student> BY_ID = Comparator.comparingInt(Student::getId);
+    private static final Comparator<Student> BY_AGE = Comparator.comparingInt(Student::getAge).thenComparing(BY_ID);
+    private static final Comparator<Student> BY_NAME = Comparator.comparing(Student::getName).thenComparing(BY_ID);
+    private final StudentService[] shards;
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    public ShardedStudentService(int shardCount) {
+        this(shardCount, shard -> new HeapStudentRepository());
+    }
+    public ShardedStudentService(int shardCount, IntFunction<? extends StudentRepository> storage) {
+        shards = new StudentService[checkShardCount(shardCount)];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new StudentService(storage.apply(i));
+        }
+        nextId.set(maxNextId());
+    }
+    public ShardedStudentService(Path directory, int shardCount) throws IOException {
+        shards = new StudentService[checkShardCount(shardCount)];
+        Files.createDirectories(directory);
+        Path layout = directory.resolve("shards");
+        if (Files.exists(layout)) {
+            int existing = Integer.parseInt(Files.readString(layout, StandardCharsets.US_ASCII).trim());
+            if (existing != shardCount) throw new IOException(directory + " holds " + existing + " shards, not " + shardCount);
+        } else {
+            Files.writeString(layout, Integer.toString(shardCount), StandardCharsets.US_ASCII);
+        }
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                shards[i] = new StudentService(directory.resolve("shard-" + i + ".wal"));
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        nextId.set(maxNextId());
+    }
+    public int shardCount() {
+        return shards.length;
+    }
+    public Student addStudent(String name, int age) {
+        Objects.requireNonNull(name, "name");
+        int id = nextId.getAndIncrement();
+        return shardOf(id).addStudent(id, name, age);
+    }
+    public boolean updateStudent(int id, String newName, int newAge) {
+        return shardOf(id).updateStudent(id, newName, newAge);
+    }
+    public boolean deleteStudent(int id) {
+        return shardOf(id).deleteStudent(id);
+    }
+    public Optional<Student> findById(int id) {
+        return shardOf(id).findById(id);
+    }
+    public List<Student> getAllStudents() {
+        return fanOut(StudentService::getAllStudents, BY_ID);
+    }
+    public List<Student> findByAgeRange(int minAge, int maxAge) {
+        return fanOut(shard -> shard.findByAgeRange(minAge, maxAge), BY_AGE);
+    }
+    public List<Student> findByNamePrefix(String prefix) {
+        return fanOut(shard -> shard.findByNamePrefix(prefix), BY_NAME);
+    }
+    public <A, R> R aggregate(Predicate<? super StudentRow> filter, StudentAggregation<A, R> aggregation) {
+        A result = shards[0].accumulate(filter, aggregation);
+        for (int i = 1; i < shards.length; i++) {
+            result = aggregation.combine(result, shards[i].accumulate(filter, aggregation));
+        }
+        return aggregation.finish(result);
+    }
+    @Override
+    public void close() {
+        for (StudentService shard : shards) {
+            if (shard != null) shard.close();
+        }
+    }
+    StudentService shard(int index) {
+        return shards[index];
+    }
+    int shardIndex(int id) {
+        int h = id * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+    private StudentService shardOf(int id) {
+        return shards[shardIndex(id)];
+    }
+    private int maxNextId() {
+        int max = 1;
+        for (StudentService shard : shards) {
+            max = Math.max(max, shard.nextId());
+        }
+        return max;
+    }
+    private List<Student> fanOut(Function<StudentService, List<Student>> query, Comparator<Student> order) {
+        List<List<Student>> parts = IntStream.range(0, shards.length).parallel()
+                .mapToObj(i -> {
+                    List<Student> part = query.apply(shards[i]);
+                    part.sort(order);
+                    return part;
+                })
+                .toList();
+        return merge(parts, order);
+    }
+    private static List<Student> merge(List<List<Student>> parts, Comparator<Student> order) {
+        int total = 0;
+        for (List<Student> part : parts) {
+            total += part.size();
+        }
+        List<Student> result = new ArrayList<>(total);
+        int[] positions = new int[parts.size()];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(Math.max(1, parts.size()),
+                (a, b) -> order.compare(parts.get(a).get(positions[a]), parts.get(b).get(positions[b])));
+        for (int i = 0; i < parts.size(); i++) {
+            if (!parts.get(i).isEmpty()) heads.add(i);
+        }
+        while (!heads.isEmpty()) {
+            int shard = heads.poll();
+            result.add(parts.get(shard).get(positions[shard]++));
+            if (positions[shard] < parts.get(shard).size()) heads.add(shard);
+        }
+        return result;
+    }
+    private static int checkShardCount(int shardCount) {
+        if (shardCount < 1) throw new IllegalArgumentException("shardCount must be positive");
+        return shardCount;
+    }
+}
@@ -0,0 +1,18 @@
+package com.studentmanagement;
+import java.util.Arrays;
+final class SlotCounts {
+    static final int BLOCK_SHIFT = 10;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private int[] counts = new int[1];
+    void increment(int slot) {
+        int block = slot >>> BLOCK_SHIFT;
+        if (block >= counts.length) counts = Arrays.copyOf(counts, Math.max(block + 1, counts.length << 1));
+        counts[block]++;
+    }
+    void decrement(int slot) {
+        counts[slot >>> BLOCK_SHIFT]--;
+    }
+    int get(int block) {
+        return block < counts.length ? counts[block] : 0;
+    }
+}
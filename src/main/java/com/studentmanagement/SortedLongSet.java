@@ -0,0 +1,100 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+final class SortedLongSet {
+    private static final int BLOCK_SIZE = 512;
+    private long[][] blocks = {new long[BLOCK_SIZE]};
+    private int[] sizes = new int[1];
+    private int blockCount = 1;
+    private int size;
+    int size() {
+        return size;
+    }
+    boolean add(long value) {
+        int b = blockFor(value);
+        int pos = Arrays.binarySearch(blocks[b], 0, sizes[b], value);
+        if (pos >= 0) return false;
+        pos = -pos - 1;
+        if (sizes[b] == BLOCK_SIZE) {
+            split(b);
+            if (pos > BLOCK_SIZE / 2) {
+                b++;
+                pos -= BLOCK_SIZE / 2;
+            }
+        }
+        long[] block = blocks[b];
+        System.arraycopy(block, pos, block, pos + 1, sizes[b] - pos);
+        block[pos] = value;
+        sizes[b]++;
+        size++;
+        return true;
+    }
+    boolean remove(long value) {
+        int b = blockFor(value);
+        int pos = Arrays.binarySearch(blocks[b], 0, sizes[b], value);
+        if (pos < 0) return false;
+        long[] block = blocks[b];
+        System.arraycopy(block, pos + 1, block, pos, sizes[b] - pos - 1);
+        sizes[b]--;
+        size--;
+        if (sizes[b] == 0 && blockCount > 1) dropBlock(b);
+        return true;
+    }
+    void forEachInRange(long from, long to, LongConsumer action) {
+        if (from > to) return;
+        int b = blockFor(from);
+        int pos = Arrays.binarySearch(blocks[b], 0, sizes[b], from);
+        if (pos < 0) pos = -pos - 1;
+        for (; b < blockCount; b++, pos = 0) {
+            long[] block = blocks[b];
+            int end = sizes[b];
+            for (; pos < end; pos++) {
+                long value = block[pos];
+                if (value > to) return;
+                action.accept(value);
+            }
+        }
+    }
+    void clear() {
+        blocks = new long[][] {new long[BLOCK_SIZE]};
+        sizes = new int[1];
+        blockCount = 1;
+        size = 0;
+    }
+    private int blockFor(long value) {
+        int low = 1;
+        int high = blockCount - 1;
+        int result = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blocks[mid][0] <= value) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+    private void split(int b) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount << 1);
+            sizes = Arrays.copyOf(sizes, blockCount << 1);
+        }
+        System.arraycopy(blocks, b + 1, blocks, b + 2, blockCount - b - 1);
+        System.arraycopy(sizes, b + 1, sizes, b + 2, blockCount - b - 1);
+        long[] upper = new long[BLOCK_SIZE];
+        int half = BLOCK_SIZE / 2;
+        System.arraycopy(blocks[b], half, upper, 0, BLOCK_SIZE - half);
+        blocks[b + 1] = upper;
+        sizes[b + 1] = BLOCK_SIZE - half;
+        sizes[b] = half;
+        blockCount++;
+    }
+    private void dropBlock(int b) {
+        System.arraycopy(blocks, b + 1, blocks, b, blockCount - b - 1);
+        System.arraycopy(sizes, b + 1, sizes, b, blockCount - b - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+    }
+}
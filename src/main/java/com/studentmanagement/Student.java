@@ -1,30 +1,22 @@
 package com.studentmanagement;
-public class Student {
-    private final int id;
-    private String name;
-    private int age;
-    public Student(int id, String name, int age) {
-        this.id = id;
-        this.name = name;
-        this.age = age;
-    }
+public record Student(int id, String name, int age) implements StudentRow {
+    @Override
     public int getId() {
         return id;
     }
+    @Override
     public String getName() {
         return name;
     }
+    @Override
     public int getAge() {
         return age;
     }
-    public void setName(String name) {
-        this.name = name;
-    }
-    public void setAge(int age) {
-        this.age = age;
+    public StringBuilder appendTo(StringBuilder out) {
+        return out.append("Student{id=").append(id).append(", name='").append(name).append("', age=").append(age).append('}');
     }
     @Override
     public String toString() {
-        return "Student{id=" + id + ", name='" + name + "', age=" + age + "}";
+        return appendTo(new StringBuilder(40)).toString();
     }
-}
\ No newline at end of file
+}
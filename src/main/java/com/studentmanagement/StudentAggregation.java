@@ -0,0 +1,7 @@
+package com.studentmanagement;
+public interface StudentAggregation<A, R> {
+    A create();
+    void accumulate(A container, StudentRow row);
+    A combine(A left, A right);
+    R finish(A container);
+}
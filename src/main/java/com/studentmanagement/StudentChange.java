@@ -0,0 +1,4 @@
+package com.studentmanagement;
+public record StudentChange(long sequence, Type type, int id, String name, int age) {
+    public enum Type { ADDED, UPDATED, DELETED }
+}
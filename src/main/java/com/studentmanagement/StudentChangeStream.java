@@ -0,0 +1,126 @@
+package com.studentmanagement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+public final class StudentChangeStream {
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private final AtomicReferenceArray<StudentChange> ring;
+    private final int mask;
+    private volatile long published;
+    private volatile long dropped;
+    private volatile int subscribers;
+    StudentChangeStream(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) throw new IllegalArgumentException("capacity must be a power of two");
+        ring = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+    public int capacity() {
+        return mask + 1;
+    }
+    public long lastSequence() {
+        return published;
+    }
+    public synchronized Subscription subscribe() {
+        subscribers++;
+        return new Subscription(published + 1);
+    }
+    public synchronized Subscription subscribeFrom(long sequence) {
+        if (sequence < 1) throw new IllegalArgumentException("sequence must be positive");
+        subscribers++;
+        return new Subscription(sequence);
+    }
+    public int subscribers() {
+        return subscribers;
+    }
+    long publish(StudentChange.Type type, int id, String name, int age) {
+        long sequence = published + 1;
+        if (subscribers == 0) {
+            synchronized (this) {
+                if (subscribers == 0) {
+                    dropped = sequence;
+                    published = sequence;
+                    return sequence;
+                }
+            }
+        }
+        ring.set((int) sequence & mask, new StudentChange(sequence, type, id, name, age));
+        published = sequence;
+        return sequence;
+    }
+    private synchronized void unsubscribe() {
+        if (--subscribers > 0) return;
+        dropped = published;
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+    public final class Subscription implements AutoCloseable {
+        private long position;
+        private boolean closed;
+        private Subscription(long position) {
+            this.position = position;
+        }
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            unsubscribe();
+        }
+        public long position() {
+            return position;
+        }
+        public long lag() {
+            return Math.max(0, published - position + 1);
+        }
+        public int poll(int maxBatch, Consumer<? super StudentChange> handler) {
+            if (closed) throw new IllegalStateException("Subscription is closed");
+            long available = published;
+            if (available < position) return 0;
+            if (position <= dropped || available - position >= ring.length()) overrun(available);
+            int batch = (int) Math.min(maxBatch, available - position + 1);
+            for (int i = 0; i < batch; i++) {
+                StudentChange change = ring.get((int) position & mask);
+                if (change == null || change.sequence() != position) overrun(published);
+                position++;
+                handler.accept(change);
+            }
+            return batch;
+        }
+        public int poll(int maxBatch, long timeout, TimeUnit unit, Consumer<? super StudentChange> handler) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            long park = 1_000;
+            while (true) {
+                int n = poll(maxBatch, handler);
+                if (n > 0) return n;
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return 0;
+                if (Thread.interrupted()) throw new InterruptedException();
+                LockSupport.parkNanos(Math.min(park, remaining));
+                park = Math.min(park << 1, MAX_PARK_NANOS);
+            }
+        }
+        private void overrun(long available) {
+            long resume = Math.max(available - ring.length() + 2, dropped + 1);
+            long missed = position;
+            position = resume;
+            throw new OverrunException(missed, resume - 1);
+        }
+    }
+    public static final class OverrunException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final long firstMissed;
+        private final long lastMissed;
+        OverrunException(long firstMissed, long lastMissed) {
+            super("Subscriber fell behind; changes " + firstMissed + ".." + lastMissed + " were overwritten");
+            this.firstMissed = firstMissed;
+            this.lastMissed = lastMissed;
+        }
+        public long firstMissed() {
+            return firstMissed;
+        }
+        public long lastMissed() {
+            return lastMissed;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+final class StudentCommandRunner {
+    private static final int MAX_FIELDS = 4;
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final int LIST_PAGE_SIZE = 1024;
+    private final StudentService service;
+    private final Writer writer;
+    private final StudentTransfer.LineWriter out;
+    private final char[] buf = new char[1 << 16];
+    private final int[] starts = new int[MAX_FIELDS];
+    private final int[] ends = new int[MAX_FIELDS];
+    private char[] line = new char[256];
+    private int length;
+    private int fields;
+    private long lineNumber;
+    private long commands;
+    private long errors;
+    private StudentTransaction tx;
+    private long txLine;
+    StudentCommandRunner(StudentService service, Writer writer) {
+        this.service = service;
+        this.writer = writer;
+        this.out = new StudentTransfer.LineWriter(writer);
+    }
+    long run(Reader in) throws IOException {
+        try {
+            int n;
+            while ((n = in.read(buf, 0, buf.length)) > 0) {
+                for (int i = 0; i < n; i++) {
+                    char c = buf[i];
+                    if (c == '\n') {
+                        execute();
+                        length = 0;
+                    } else {
+                        if (length == line.length) line = Arrays.copyOf(line, length << 1);
+                        line[length++] = c;
+                    }
+                }
+            }
+            if (length > 0) execute();
+            length = 0;
+            if (tx != null) {
+                tx = null;
+                error(txLine, "transaction was never committed");
+            }
+        } catch (StudentTransfer.TransferException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return errors;
+    }
+    long commands() {
+        return commands;
+    }
+    long errors() {
+        return errors;
+    }
+    private void execute() {
+        lineNumber++;
+        if (length > 0 && line[length - 1] == '\r') length--;
+        int first = 0;
+        while (first < length && line[first] == ' ') first++;
+        if (first == length || line[first] == '#') return;
+        commands++;
+        String problem = split(first);
+        if (problem != null) {
+            error(lineNumber, problem);
+        } else if (is("add")) {
+            add();
+        } else if (is("update")) {
+            update();
+        } else if (is("delete")) {
+            delete();
+        } else if (is("find")) {
+            find();
+        } else if (is("list")) {
+            if (arity(1, "list")) list();
+        } else if (is("metrics")) {
+            if (arity(1, "metrics")) write(service.metrics().dump());
+        } else if (is("begin")) {
+            begin();
+        } else if (is("commit")) {
+            if (arity(1, "commit")) commit();
+        } else if (is("rollback")) {
+            if (!arity(1, "rollback")) return;
+            if (tx == null) error(lineNumber, "no open transaction");
+            tx = null;
+        } else {
+            error(lineNumber, "unknown command");
+        }
+    }
+    private void add() {
+        long age = number(2);
+        if (!arity(3, "add,<name>,<age>") || !valid(age, "add,<name>,<age>")) return;
+        if (tx != null) {
+            tx.add(text(1), (int) age);
+        } else {
+            reply("added", service.addStudent(text(1), (int) age).getId());
+        }
+    }
+    private void update() {
+        long id = number(1);
+        long age = number(3);
+        if (!arity(4, "update,<id>,<name>,<age>") || !valid(id, "update,<id>,<name>,<age>") || !valid(age, "update,<id>,<name>,<age>")) return;
+        if (tx != null) {
+            tx.update((int) id, text(2), (int) age);
+        } else if (service.updateStudent((int) id, text(2), (int) age)) {
+            reply("updated", id);
+        } else {
+            notFound(id);
+        }
+    }
+    private void delete() {
+        long id = number(1);
+        if (!arity(2, "delete,<id>") || !valid(id, "delete,<id>")) return;
+        if (tx != null) {
+            tx.delete((int) id);
+        } else if (service.deleteStudent((int) id)) {
+            reply("deleted", id);
+        } else {
+            notFound(id);
+        }
+    }
+    private void find() {
+        long id = number(1);
+        if (!arity(2, "find,<id>") || !valid(id, "find,<id>")) return;
+        Student s = service.findById((int) id).orElse(null);
+        if (s != null) row(s);
+        else notFound(id);
+    }
+    private void list() {
+        long offset = 0;
+        List<Student> page;
+        do {
+            page = service.page(offset, LIST_PAGE_SIZE);
+            for (Student s : page) {
+                row(s);
+            }
+            offset += page.size();
+        } while (page.size() == LIST_PAGE_SIZE);
+    }
+    private void begin() {
+        if (!arity(1, "begin")) return;
+        if (tx != null) {
+            error(lineNumber, "transaction already open");
+            return;
+        }
+        tx = service.transaction();
+        txLine = lineNumber;
+    }
+    private void commit() {
+        if (tx == null) {
+            error(lineNumber, "no open transaction");
+            return;
+        }
+        StudentTransaction staged = tx;
+        tx = null;
+        try {
+            for (Student s : staged.commit()) {
+                reply("added", s.getId());
+            }
+            reply("committed", staged.size());
+        } catch (StudentTransaction.RollbackException e) {
+            error(lineNumber, e.getMessage());
+        }
+    }
+    private String split(int i) {
+        fields = 0;
+        while (true) {
+            if (fields == MAX_FIELDS) return "too many fields";
+            int start = i;
+            int end;
+            if (i < length && line[i] == '"') {
+                int w = i;
+                i++;
+                while (true) {
+                    if (i == length) return "unterminated quote";
+                    char c = line[i++];
+                    if (c == '"') {
+                        if (i == length || line[i] != '"') break;
+                        i++;
+                    }
+                    line[w++] = c;
+                }
+                end = w;
+            } else {
+                while (i < length && line[i] != ',') i++;
+                end = i;
+            }
+            starts[fields] = start;
+            ends[fields++] = end;
+            if (i == length) return null;
+            if (line[i] != ',') return "unexpected character after quoted field";
+            i++;
+        }
+    }
+    private boolean is(String command) {
+        int start = starts[0];
+        int end = ends[0];
+        while (end > start && line[end - 1] == ' ') end--;
+        if (end - start != command.length()) return false;
+        for (int i = 0; i < command.length(); i++) {
+            if (Character.toLowerCase(line[start + i]) != command.charAt(i)) return false;
+        }
+        return true;
+    }
+    private boolean arity(int expected, String usage) {
+        if (fields == expected) return true;
+        error(lineNumber, "expected " + usage);
+        return false;
+    }
+    private boolean valid(long number, String usage) {
+        if (number != INVALID) return true;
+        error(lineNumber, "expected " + usage);
+        return false;
+    }
+    private long number(int field) {
+        if (field >= fields) return INVALID;
+        int i = starts[field];
+        int end = ends[field];
+        while (i < end && line[i] == ' ') i++;
+        while (end > i && line[end - 1] == ' ') end--;
+        boolean negative = i < end && line[i] == '-';
+        if (negative) i++;
+        if (i == end || end - i > 10) return INVALID;
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) return INVALID;
+            value = value * 10 + digit;
+        }
+        value = negative ? -value : value;
+        return value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ? INVALID : value;
+    }
+    private String text(int field) {
+        int start = starts[field];
+        int end = ends[field];
+        while (start < end && line[start] == ' ') start++;
+        while (end > start && line[end - 1] == ' ') end--;
+        return new String(line, start, end - start);
+    }
+    private void row(Student s) {
+        StringBuilder b = out.line();
+        b.append(s.getId()).append(',');
+        StudentTransfer.appendCsvField(b, s.getName());
+        b.append(',').append(s.getAge());
+        out.writeLine();
+    }
+    private void reply(String status, long value) {
+        out.line().append(status).append(',').append(value);
+        out.writeLine();
+    }
+    private void notFound(long id) {
+        error(lineNumber, "student " + id + " not found");
+    }
+    private void error(long at, String message) {
+        errors++;
+        StringBuilder b = out.line();
+        b.append("error,").append(at).append(',');
+        StudentTransfer.appendCsvField(b, message);
+        out.writeLine();
+    }
+    private void write(String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new StudentTransfer.TransferException(e);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.studentmanagement;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.management.JMException;
+public final class StudentHttpServer implements AutoCloseable {
+    private static final String BASE_PATH = "/students";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 10_000;
+    private final StudentService service;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    public StudentHttpServer(StudentService service, InetSocketAddress address) throws IOException {
+        this.service = service;
+        this.server = HttpServer.create(address, 16_384);
+        this.executor = requestExecutor();
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH, this::handle);
+    }
+    public static void main(String[] args) throws IOException, JMException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        StudentService service = args.length > 1 ? new StudentService(Path.of(args[1])) : new StudentService();
+        service.metrics().setEnabled(true);
+        service.metrics().registerMBean("http-" + port);
+        StudentHttpServer server = new StudentHttpServer(service, new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            service.close();
+        }));
+        server.start();
+        System.out.println("Student service listening on http://localhost:" + server.port() + BASE_PATH);
+    }
+    public void start() {
+        server.start();
+    }
+    public int port() {
+        return server.getAddress().getPort();
+    }
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+    static ExecutorService requestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return Executors.newFixedThreadPool(Math.max(8, Runtime.getRuntime().availableProcessors() * 4));
+        }
+    }
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (path.equals(BASE_PATH) || path.equals(BASE_PATH + "/")) {
+                switch (method) {
+                    case "GET" -> list(exchange);
+                    case "POST" -> add(exchange);
+                    default -> send(exchange, 405, null);
+                }
+                return;
+            }
+            int id = parseId(path.substring(BASE_PATH.length() + 1));
+            switch (method) {
+                case "GET" -> get(exchange, id);
+                case "PUT" -> update(exchange, id);
+                case "DELETE" -> send(exchange, service.deleteStudent(id) ? 204 : 404, null);
+                default -> send(exchange, 405, null);
+            }
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, StudentJson.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, 500, StudentJson.error(e.getMessage()));
+        } finally {
+            exchange.close();
+        }
+    }
+    private void list(HttpExchange exchange) throws IOException {
+        URI uri = exchange.getRequestURI();
+        long offset = queryParameter(uri, "offset", 0);
+        long limit = queryParameter(uri, "limit", DEFAULT_PAGE_SIZE);
+        if (offset < 0 || limit < 0 || limit > MAX_PAGE_SIZE) throw new IllegalArgumentException("Invalid offset or limit");
+        send(exchange, 200, StudentJson.toJson(service.page(offset, (int) limit)));
+    }
+    private void add(HttpExchange exchange) throws IOException {
+        NewStudent request = StudentJson.parse(readBody(exchange));
+        Student s = service.addStudent(request.name(), request.age());
+        exchange.getResponseHeaders().set("Location", BASE_PATH + "/" + s.getId());
+        send(exchange, 201, StudentJson.toJson(s));
+    }
+    private void get(HttpExchange exchange, int id) throws IOException {
+        Optional<Student> s = service.findById(id);
+        if (s.isPresent()) send(exchange, 200, StudentJson.toJson(s.get()));
+        else send(exchange, 404, null);
+    }
+    private void update(HttpExchange exchange, int id) throws IOException {
+        NewStudent request = StudentJson.parse(readBody(exchange));
+        if (!service.updateStudent(id, request.name(), request.age())) {
+            send(exchange, 404, null);
+            return;
+        }
+        send(exchange, 200, StudentJson.toJson(new Student(id, request.name(), request.age())));
+    }
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) throw new IllegalArgumentException("Request body too large");
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    private static int parseId(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid student id: " + value);
+        }
+    }
+    private static long queryParameter(URI uri, String name, long defaultValue) {
+        String query = uri.getRawQuery();
+        if (query == null) return defaultValue;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                try {
+                    return Long.parseLong(pair.substring(eq + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid " + name + ": " + pair.substring(eq + 1));
+                }
+            }
+        }
+        return defaultValue;
+    }
+}
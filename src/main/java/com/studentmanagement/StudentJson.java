@@ -0,0 +1,158 @@
+package com.studentmanagement;
+import java.util.List;
+final class StudentJson {
+    private StudentJson() {
+    }
+    static String toJson(Student s) {
+        StringBuilder out = new StringBuilder(64);
+        append(out, s);
+        return out.toString();
+    }
+    static String toJson(List<Student> students) {
+        StringBuilder out = new StringBuilder(students.size() * 48 + 2);
+        out.append('[');
+        for (int i = 0; i < students.size(); i++) {
+            if (i > 0) out.append(',');
+            append(out, students.get(i));
+        }
+        return out.append(']').toString();
+    }
+    static void append(StringBuilder out, Student s) {
+        out.append("{\"id\":").append(s.getId()).append(",\"name\":");
+        appendString(out, s.getName());
+        out.append(",\"age\":").append(s.getAge()).append('}');
+    }
+    static String error(String message) {
+        StringBuilder out = new StringBuilder("{\"error\":");
+        appendString(out, String.valueOf(message));
+        return out.append('}').toString();
+    }
+    static NewStudent parse(String json) {
+        Parser parser = new Parser(json);
+        String name = null;
+        Integer age = null;
+        parser.expect('{');
+        if (!parser.tryConsume('}')) {
+            do {
+                String key = parser.readString();
+                parser.expect(':');
+                switch (key) {
+                    case "name" -> name = parser.readString();
+                    case "age" -> age = parser.readInt();
+                    default -> parser.skipValue();
+                }
+            } while (parser.tryConsume(','));
+            parser.expect('}');
+        }
+        parser.expectEnd();
+        if (name == null || age == null) throw new IllegalArgumentException("Expected \"name\" and \"age\"");
+        return new NewStudent(name, age);
+    }
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+    private static final class Parser {
+        private final String json;
+        private int pos;
+        Parser(String json) {
+            this.json = json;
+        }
+        void expect(char c) {
+            skipWhitespace();
+            if (pos >= json.length() || json.charAt(pos) != c) throw error("Expected '" + c + "'");
+            pos++;
+        }
+        boolean tryConsume(char c) {
+            skipWhitespace();
+            if (pos < json.length() && json.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+        void expectEnd() {
+            skipWhitespace();
+            if (pos != json.length()) throw error("Unexpected trailing content");
+        }
+        String readString() {
+            expect('"');
+            StringBuilder out = new StringBuilder();
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') return out.toString();
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                if (pos >= json.length()) break;
+                char e = json.charAt(pos++);
+                switch (e) {
+                    case '"', '\\', '/' -> out.append(e);
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > json.length()) throw error("Truncated escape");
+                        try {
+                            out.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException ex) {
+                            throw error("Invalid escape");
+                        }
+                        pos += 4;
+                    }
+                    default -> throw error("Invalid escape");
+                }
+            }
+            throw error("Unterminated string");
+        }
+        int readInt() {
+            skipWhitespace();
+            int start = pos;
+            if (pos < json.length() && json.charAt(pos) == '-') pos++;
+            long value = 0;
+            int digits = 0;
+            while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+                value = value * 10 + (json.charAt(pos++) - '0');
+                if (++digits > 10) throw error("Number out of range");
+            }
+            if (digits == 0) throw error("Expected a number");
+            if (json.charAt(start) == '-') value = -value;
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw error("Number out of range");
+            return (int) value;
+        }
+        void skipValue() {
+            skipWhitespace();
+            if (pos >= json.length()) throw error("Expected a value");
+            char c = json.charAt(pos);
+            if (c == '"') {
+                readString();
+                return;
+            }
+            if (c == '{' || c == '[') throw error("Nested values are not supported");
+            while (pos < json.length() && ",}] \t\r\n".indexOf(json.charAt(pos)) < 0) pos++;
+        }
+        private void skipWhitespace() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) pos++;
+        }
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + pos);
+        }
+    }
+}
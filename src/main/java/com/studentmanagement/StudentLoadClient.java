@@ -0,0 +1,113 @@
+package com.studentmanagement;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+public final class StudentLoadClient {
+    private static final int SEED_STUDENTS = 1_000;
+    private final URI students;
+    private final HttpClient client;
+    private final ExecutorService executor;
+    public StudentLoadClient(URI baseUri) {
+        this.students = baseUri.resolve("/students");
+        this.executor = StudentHttpServer.requestExecutor();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .executor(executor)
+                .build();
+    }
+    public static void main(String[] args) throws Exception {
+        URI base = URI.create(args.length > 0 ? args[0] : "http://localhost:8080");
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int requestsPerConnection = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        StudentLoadClient loadClient = new StudentLoadClient(base);
+        try {
+            System.out.println(loadClient.run(connections, requestsPerConnection));
+        } finally {
+            loadClient.close();
+        }
+    }
+    public Report run(int connections, int requestsPerConnection) {
+        seed();
+        long[] latencies = new long[connections * requestsPerConnection];
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        CompletableFuture<?>[] users = new CompletableFuture<?>[connections];
+        long start = System.nanoTime();
+        for (int c = 0; c < connections; c++) {
+            CompletableFuture<Void> user = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < requestsPerConnection; r++) {
+                user = user.thenCompose(ignored -> timedRequest(latencies, recorded, errors));
+            }
+            users[c] = user;
+        }
+        CompletableFuture.allOf(users).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long[] sorted = Arrays.copyOf(latencies, recorded.get());
+        Arrays.sort(sorted);
+        return new Report(connections, sorted.length, errors.get(), seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999), sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+    public void close() {
+        executor.shutdownNow();
+    }
+    private void seed() {
+        CompletableFuture<?>[] seeds = new CompletableFuture<?>[SEED_STUDENTS];
+        for (int i = 0; i < SEED_STUDENTS; i++) {
+            seeds[i] = client.sendAsync(post("Seed" + i, 18 + i % 40), HttpResponse.BodyHandlers.discarding());
+        }
+        CompletableFuture.allOf(seeds).join();
+    }
+    private CompletableFuture<Void> timedRequest(long[] latencies, AtomicInteger recorded, AtomicLong errors) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(10);
+        int id = random.nextInt(1, SEED_STUDENTS + 1);
+        HttpRequest request;
+        if (roll < 8) request = HttpRequest.newBuilder(students.resolve("/students/" + id)).GET().build();
+        else if (roll == 8) request = put(id, "Updated" + id, 18 + random.nextInt(40));
+        else request = post("Load" + random.nextInt(1_000_000), 18 + random.nextInt(40));
+        long sent = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).handle((response, failure) -> {
+            long latency = System.nanoTime() - sent;
+            if (failure != null || response.statusCode() >= 500) errors.incrementAndGet();
+            else latencies[recorded.getAndIncrement()] = latency;
+            return null;
+        });
+    }
+    private HttpRequest post(String name, int age) {
+        return HttpRequest.newBuilder(students)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body(name, age)))
+                .build();
+    }
+    private HttpRequest put(int id, String name, int age) {
+        return HttpRequest.newBuilder(students.resolve("/students/" + id))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(body(name, age)))
+                .build();
+    }
+    private static String body(String name, int age) {
+        return "{\"name\":\"" + name + "\",\"age\":" + age + "}";
+    }
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+    public record Report(int connections, long requests, long errors, double seconds, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        @Override
+        public String toString() {
+            return String.format("connections=%d requests=%d errors=%d throughput=%.0f req/s p50=%.2f ms p99=%.2f ms p999=%.2f ms max=%.2f ms",
+                    connections, requests, errors, requests / seconds, p50Nanos / 1e6, p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+}
@@ -1,11 +1,66 @@
 package com.studentmanagement;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Scanner;
+import javax.management.JMException;
 public class StudentManagementApp {
-    private final StudentService service = new StudentService();
+    private static final int PAGE_SIZE = 20;
+    private final StudentService service;
     private final Scanner scanner = new Scanner(System.in);
-    public static void main(String[] args) {
-        new StudentManagementApp().run();
+    public StudentManagementApp() {
+        this(new StudentService());
+    }
+    public StudentManagementApp(StudentService service) {
+        this.service = service;
+    }
+    public static void main(String[] args) throws IOException, JMException {
+        Path logFile = null;
+        String batch = null;
+        int replicationPort = -1;
+        for (int i = 0; i < args.length; i++) {
+            if ("--batch".equals(args[i])) batch = i + 1 < args.length ? args[++i] : "-";
+            else if ("--replicate".equals(args[i]) && i + 1 < args.length) replicationPort = Integer.parseInt(args[++i]);
+            else logFile = Path.of(args[i]);
+        }
+        long errors = 0;
+        try (StudentService service = logFile != null ? new StudentService(logFile) : new StudentService();
+             StudentReplicationLeader leader = replicationPort < 0 ? null : new StudentReplicationLeader(service, new InetSocketAddress(replicationPort))) {
+            service.metrics().setEnabled(true);
+            if (leader != null) {
+                leader.start();
+                System.err.println("Replicating on port " + leader.port());
+            }
+            if (batch != null) {
+                errors = runBatch(service, batch);
+            } else {
+                service.metrics().registerMBean("app");
+                new StudentManagementApp(service).run();
+            }
+        }
+        if (errors > 0) System.exit(1);
+    }
+    static long runBatch(StudentService service, String source) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        StudentCommandRunner runner = new StudentCommandRunner(service, out);
+        long start = System.nanoTime();
+        try (Reader in = "-".equals(source)
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Path.of(source), StandardCharsets.UTF_8)) {
+            runner.run(in);
+        }
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.err.println(runner.commands() + " commands, " + runner.errors() + " errors in " + millis + " ms");
+        return runner.errors();
     }
     private void run() {
         while (true) {
@@ -20,6 +75,7 @@ public class StudentManagementApp {
                     System.out.println("Exiting. Goodbye.");
                     return;
                 }
+                case "6" -> showMetrics();
                 default -> System.out.println("Invalid option.");
             }
         }
@@ -32,6 +88,7 @@ public class StudentManagementApp {
         System.out.println("3 - Delete Student");
         System.out.println("4 - Show All Students");
         System.out.println("5 - Exit");
+        System.out.println("6 - Show Metrics");
         System.out.print("Choose an option: ");
     }
     private void addStudent() {
@@ -67,16 +124,33 @@ public class StudentManagementApp {
         }
     }
     private void showAllStudents() {
-        List<Student> students = service.getAllStudents();
-        if (students.isEmpty()) {
+        List<Student> page = service.page(0, PAGE_SIZE);
+        if (page.isEmpty()) {
             System.out.println("No students found.");
-        } else {
-            System.out.println("\n=== All Students ===");
-            for (Student s : students) {
-                System.out.println(s);
+            return;
+        }
+        System.out.println("\n=== All Students ===");
+        PrintWriter console = new PrintWriter(System.out);
+        StudentTransfer.LineWriter lines = new StudentTransfer.LineWriter(console);
+        long offset = 0;
+        while (true) {
+            for (Student s : page) {
+                s.appendTo(lines.line());
+                lines.writeLine();
             }
+            console.flush();
+            offset += page.size();
+            if (page.size() < PAGE_SIZE) return;
+            page = service.page(offset, PAGE_SIZE);
+            if (page.isEmpty()) return;
+            System.out.print("-- Press Enter for more, q to stop: ");
+            if (scanner.nextLine().trim().equalsIgnoreCase("q")) return;
         }
     }
+    private void showMetrics() {
+        System.out.println("\n=== Metrics ===");
+        System.out.print(service.metrics().dump());
+    }
     private int readInt() {
         while (true) {
             try {
@@ -0,0 +1,104 @@
+package com.studentmanagement;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+public final class StudentMetrics implements StudentMetricsMXBean {
+    public enum Operation { ADD, UPDATE, DELETE, FIND, COMMIT }
+    static final long DISABLED = Long.MIN_VALUE;
+    private static final Operation[] OPERATIONS = Operation.values();
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder[] misses = new LongAdder[OPERATIONS.length];
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    public StudentMetrics() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            latencies[i] = new LatencyHistogram();
+            misses[i] = new LongAdder();
+        }
+    }
+    long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+    void record(Operation operation, long start, boolean hit) {
+        if (start == DISABLED) return;
+        latencies[operation.ordinal()].record(System.nanoTime() - start);
+        if (!hit) misses[operation.ordinal()].increment();
+    }
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+    public OperationStats stats(Operation operation) {
+        LatencyHistogram h = latencies[operation.ordinal()];
+        return new OperationStats(h.count(), misses[operation.ordinal()].sum(), h.mean() / 1_000.0, h.valueAtPercentile(50) / 1_000.0,
+                h.valueAtPercentile(99) / 1_000.0, h.valueAtPercentile(99.9) / 1_000.0, h.max() / 1_000.0);
+    }
+    public ObjectName registerMBean(String name) throws JMException {
+        ObjectName objectName = new ObjectName("com.studentmanagement:type=StudentMetrics,name=" + ObjectName.quote(name));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        if (server.isRegistered(objectName)) server.unregisterMBean(objectName);
+        server.registerMBean(this, objectName);
+        return objectName;
+    }
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    @Override
+    public OperationStats getAdd() {
+        return stats(Operation.ADD);
+    }
+    @Override
+    public OperationStats getUpdate() {
+        return stats(Operation.UPDATE);
+    }
+    @Override
+    public OperationStats getDelete() {
+        return stats(Operation.DELETE);
+    }
+    @Override
+    public OperationStats getFind() {
+        return stats(Operation.FIND);
+    }
+    @Override
+    public OperationStats getCommit() {
+        return stats(Operation.COMMIT);
+    }
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+    @Override
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("metrics %s%n", enabled ? "enabled" : "disabled"));
+        out.append(String.format("%-8s %10s %10s %10s %10s %10s %10s %10s%n", "op", "count", "misses", "mean(us)", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+        for (Operation operation : OPERATIONS) {
+            OperationStats s = stats(operation);
+            out.append(String.format("%-8s %10d %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", operation.name().toLowerCase(), s.count(), s.misses(),
+                    s.meanMicros(), s.p50Micros(), s.p99Micros(), s.p999Micros(), s.maxMicros()));
+        }
+        getGauges().forEach((name, value) -> out.append(String.format("%-20s %d%n", name, value)));
+        return out.toString();
+    }
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            latencies[i].reset();
+            misses[i].reset();
+        }
+    }
+    public record OperationStats(long count, long misses, double meanMicros, double p50Micros, double p99Micros, double p999Micros, double maxMicros) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.studentmanagement;
+import java.util.Map;
+public interface StudentMetricsMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean enabled);
+    StudentMetrics.OperationStats getAdd();
+    StudentMetrics.OperationStats getUpdate();
+    StudentMetrics.OperationStats getDelete();
+    StudentMetrics.OperationStats getFind();
+    StudentMetrics.OperationStats getCommit();
+    Map<String, Long> getGauges();
+    String dump();
+    void reset();
+}
@@ -0,0 +1,184 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+public final class StudentQuery {
+    static final int CHUNK_SLOTS = 1 << 14;
+    private StudentQuery() {
+    }
+    public static Predicate<StudentRow> all() {
+        return row -> true;
+    }
+    public static Predicate<StudentRow> ageBetween(int minAge, int maxAge) {
+        return row -> {
+            int age = row.getAge();
+            return age >= minAge && age <= maxAge;
+        };
+    }
+    public static Predicate<StudentRow> nameEquals(String name) {
+        return row -> row.nameEquals(name);
+    }
+    public static Predicate<StudentRow> nameStartsWith(String prefix) {
+        return row -> row.nameStartsWith(prefix);
+    }
+    public static StudentAggregation<long[], Long> count() {
+        return new StudentAggregation<>() {
+            @Override
+            public long[] create() {
+                return new long[1];
+            }
+            @Override
+            public void accumulate(long[] container, StudentRow row) {
+                container[0]++;
+            }
+            @Override
+            public long[] combine(long[] left, long[] right) {
+                left[0] += right[0];
+                return left;
+            }
+            @Override
+            public Long finish(long[] container) {
+                return container[0];
+            }
+        };
+    }
+    public static StudentAggregation<long[], OptionalDouble> averageAge() {
+        return new StudentAggregation<>() {
+            @Override
+            public long[] create() {
+                return new long[2];
+            }
+            @Override
+            public void accumulate(long[] container, StudentRow row) {
+                container[0]++;
+                container[1] += row.getAge();
+            }
+            @Override
+            public long[] combine(long[] left, long[] right) {
+                left[0] += right[0];
+                left[1] += right[1];
+                return left;
+            }
+            @Override
+            public OptionalDouble finish(long[] container) {
+                return container[0] == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) container[1] / container[0]);
+            }
+        };
+    }
+    public static StudentAggregation<Histogram, SortedMap<Integer, Long>> ageHistogram(int bucketWidth) {
+        if (bucketWidth < 1) throw new IllegalArgumentException("bucketWidth must be positive");
+        return new StudentAggregation<>() {
+            @Override
+            public Histogram create() {
+                return new Histogram();
+            }
+            @Override
+            public void accumulate(Histogram container, StudentRow row) {
+                container.add(Math.floorDiv(row.getAge(), bucketWidth), 1);
+            }
+            @Override
+            public Histogram combine(Histogram left, Histogram right) {
+                for (int i = 0; i < right.counts.length; i++) {
+                    if (right.counts[i] != 0) left.add(right.first + i, right.counts[i]);
+                }
+                return left;
+            }
+            @Override
+            public SortedMap<Integer, Long> finish(Histogram container) {
+                SortedMap<Integer, Long> result = new TreeMap<>();
+                for (int i = 0; i < container.counts.length; i++) {
+                    if (container.counts[i] != 0) result.put((container.first + i) * bucketWidth, container.counts[i]);
+                }
+                return result;
+            }
+        };
+    }
+    public static StudentAggregation<Map<String, long[]>, SortedMap<String, Long>> countByNamePrefix(int prefixLength) {
+        if (prefixLength < 0) throw new IllegalArgumentException("prefixLength must not be negative");
+        return new StudentAggregation<>() {
+            @Override
+            public Map<String, long[]> create() {
+                return new HashMap<>();
+            }
+            @Override
+            public void accumulate(Map<String, long[]> container, StudentRow row) {
+                String name = row.getName();
+                String prefix = name.length() <= prefixLength ? name : name.substring(0, prefixLength);
+                container.computeIfAbsent(prefix, k -> new long[1])[0]++;
+            }
+            @Override
+            public Map<String, long[]> combine(Map<String, long[]> left, Map<String, long[]> right) {
+                right.forEach((prefix, count) -> left.merge(prefix, count, (a, b) -> {
+                    a[0] += b[0];
+                    return a;
+                }));
+                return left;
+            }
+            @Override
+            public SortedMap<String, Long> finish(Map<String, long[]> container) {
+                SortedMap<String, Long> result = new TreeMap<>();
+                container.forEach((prefix, count) -> result.put(prefix, count[0]));
+                return result;
+            }
+        };
+    }
+    static <A> A accumulate(StudentRepository repository, Predicate<? super StudentRow> filter, StudentAggregation<A, ?> aggregation) {
+        ChunkTask<A> task = new ChunkTask<>(repository, filter, aggregation, 0, repository.rowSlots());
+        return task.to - task.from <= CHUNK_SLOTS ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+    }
+    public static final class Histogram {
+        private int first;
+        private long[] counts = new long[0];
+        void add(int bucket, long n) {
+            if (counts.length == 0) {
+                first = bucket;
+                counts = new long[8];
+            } else if (bucket < first) {
+                int shift = first - bucket;
+                long[] grown = new long[Math.max(counts.length + shift, counts.length << 1)];
+                System.arraycopy(counts, 0, grown, shift, counts.length);
+                counts = grown;
+                first = bucket;
+            } else if (bucket - first >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(bucket - first + 1, counts.length << 1));
+            }
+            counts[bucket - first] += n;
+        }
+    }
+    private static final class ChunkTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+        private final StudentRepository repository;
+        private final Predicate<? super StudentRow> filter;
+        private final StudentAggregation<A, ?> aggregation;
+        private final int from;
+        private final int to;
+        ChunkTask(StudentRepository repository, Predicate<? super StudentRow> filter, StudentAggregation<A, ?> aggregation, int from, int to) {
+            this.repository = repository;
+            this.filter = filter;
+            this.aggregation = aggregation;
+            this.from = from;
+            this.to = to;
+        }
+        @Override
+        protected A compute() {
+            if (to - from <= CHUNK_SLOTS) {
+                A container = aggregation.create();
+                repository.forEachRow(from, to, row -> {
+                    if (filter.test(row)) aggregation.accumulate(container, row);
+                });
+                return container;
+            }
+            int mid = (from + to) >>> 1;
+            ChunkTask<A> left = new ChunkTask<>(repository, filter, aggregation, from, mid);
+            left.fork();
+            A right = new ChunkTask<>(repository, filter, aggregation, mid, to).compute();
+            return aggregation.combine(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.studentmanagement;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import javax.management.JMException;
+public final class StudentReplica implements AutoCloseable {
+    private static final StudentChange.Type[] TYPES = StudentChange.Type.values();
+    private static final int TIMEOUT_MILLIS = (int) StudentReplicationLeader.HEARTBEAT_MILLIS * 20;
+    private static final long MIN_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 1_000;
+    private final InetSocketAddress leader;
+    private final Thread worker;
+    private final StudentMetrics metrics = new StudentMetrics();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private volatile StudentService service = new StudentService();
+    private volatile Socket socket;
+    private volatile boolean closed;
+    private volatile long epoch;
+    private volatile long appliedSequence;
+    private volatile long leaderSequence;
+    private volatile long lastFrameNanos = System.nanoTime();
+    public StudentReplica(InetSocketAddress leader) {
+        this.leader = Objects.requireNonNull(leader, "leader");
+        worker = new Thread(this::run, "student-replica");
+        worker.setDaemon(true);
+        metrics.gauge("students", () -> service.size());
+        metrics.gauge("appliedSequence", () -> appliedSequence);
+        metrics.gauge("leaderSequence", () -> leaderSequence);
+        metrics.gauge("replicationLag", this::lag);
+        metrics.gauge("replicationAgeMillis", () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastFrameNanos));
+        metrics.gauge("replicationBytes", bytesReceived::sum);
+        metrics.gauge("replicationSnapshots", snapshots::sum);
+    }
+    public static void main(String[] args) throws InterruptedException, JMException {
+        if (args.length != 2) {
+            System.err.println("Usage: StudentReplica <leader-host> <leader-port>");
+            System.exit(2);
+        }
+        StudentReplica replica = new StudentReplica(new InetSocketAddress(args[0], Integer.parseInt(args[1])));
+        replica.metrics().registerMBean("replica");
+        Runtime.getRuntime().addShutdownHook(new Thread(replica::close));
+        replica.start();
+        while (true) {
+            Thread.sleep(1_000);
+            System.out.println("applied " + replica.appliedSequence() + ", lag " + replica.lag() + ", students " + replica.service.size());
+        }
+    }
+    public void start() {
+        worker.start();
+    }
+    public Optional<Student> findById(int id) {
+        return service.findById(id);
+    }
+    public List<Student> getAllStudents() {
+        return service.getAllStudents();
+    }
+    public long appliedSequence() {
+        return appliedSequence;
+    }
+    public long lag() {
+        return Math.max(0, leaderSequence - appliedSequence);
+    }
+    public boolean awaitSequence(long sequence, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (appliedSequence < sequence) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+        return true;
+    }
+    public StudentMetrics metrics() {
+        return metrics;
+    }
+    public StudentService promote() {
+        close();
+        return service;
+    }
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+        disconnect();
+        try {
+            if (worker.isAlive() && worker != Thread.currentThread()) worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    long snapshots() {
+        return snapshots.sum();
+    }
+    void disconnect() {
+        Socket current = socket;
+        if (current == null) return;
+        try {
+            current.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    private void run() {
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (!closed) {
+            long connected = System.nanoTime();
+            try (Socket s = new Socket()) {
+                socket = s;
+                if (closed) return;
+                s.connect(leader, TIMEOUT_MILLIS);
+                s.setSoTimeout(TIMEOUT_MILLIS);
+                s.setTcpNoDelay(true);
+                replicate(s);
+            } catch (IOException e) {
+                if (lastFrameNanos - connected > 0) backoff = MIN_BACKOFF_MILLIS;
+            } finally {
+                socket = null;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoff = Math.min(backoff << 1, MAX_BACKOFF_MILLIS);
+        }
+    }
+    private void replicate(Socket s) throws IOException {
+        DataOutputStream handshake = new DataOutputStream(s.getOutputStream());
+        handshake.writeInt(StudentReplicationLeader.MAGIC);
+        handshake.writeLong(epoch);
+        handshake.writeLong(appliedSequence + 1);
+        handshake.flush();
+        Inflater inflater = new Inflater();
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new InflaterInputStream(
+                    new Received(s.getInputStream()), inflater, StudentReplicationLeader.BUFFER_BYTES), StudentReplicationLeader.BUFFER_BYTES));
+            while (!closed) {
+                byte frame = in.readByte();
+                switch (frame) {
+                    case StudentReplicationLeader.SNAPSHOT -> loadSnapshot(in);
+                    case StudentReplicationLeader.CHANGES -> applyChanges(in);
+                    case StudentReplicationLeader.HEARTBEAT -> leaderSequence = in.readLong();
+                    default -> throw new IOException("Unknown replication frame " + frame);
+                }
+                lastFrameNanos = System.nanoTime();
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+    private void loadSnapshot(DataInputStream in) throws IOException {
+        long snapshotEpoch = in.readLong();
+        long sequence = in.readLong();
+        int nextId = in.readInt();
+        int count = in.readInt();
+        if (count < 0) throw new IOException("Invalid snapshot size " + count);
+        HeapStudentRepository repository = new HeapStudentRepository();
+        repository.ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            int id = in.readInt();
+            int age = in.readInt();
+            repository.insert(new Student(id, StudentReplicationLeader.readName(in), age));
+        }
+        StudentService loaded = new StudentService(repository);
+        loaded.advanceNextId(nextId);
+        service = loaded;
+        epoch = snapshotEpoch;
+        appliedSequence = sequence;
+        leaderSequence = sequence;
+        snapshots.increment();
+    }
+    private void applyChanges(DataInputStream in) throws IOException {
+        leaderSequence = in.readLong();
+        long sequence = in.readLong();
+        int count = in.readInt();
+        if (sequence > appliedSequence + 1) throw new IOException("Missing changes " + (appliedSequence + 1) + ".." + (sequence - 1));
+        StudentService target = service;
+        for (int i = 0; i < count; i++, sequence++) {
+            int type = in.readByte();
+            if (type < 0 || type >= TYPES.length) throw new IOException("Unknown change type " + type);
+            int id = in.readInt();
+            if (TYPES[type] == StudentChange.Type.DELETED) {
+                if (sequence <= appliedSequence) continue;
+                target.deleteStudent(id);
+            } else {
+                int age = in.readInt();
+                String name = StudentReplicationLeader.readName(in);
+                if (sequence <= appliedSequence) continue;
+                if (TYPES[type] == StudentChange.Type.ADDED) target.addStudent(id, name, age);
+                else target.updateStudent(id, name, age);
+            }
+            appliedSequence = sequence;
+        }
+    }
+    private final class Received extends FilterInputStream {
+        Received(InputStream in) {
+            super(in);
+        }
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) bytesReceived.add(n);
+            return n;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.studentmanagement;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+public final class StudentReplicationLeader implements AutoCloseable {
+    static final int MAGIC = 0x53545250;
+    static final byte SNAPSHOT = 1;
+    static final byte CHANGES = 2;
+    static final byte HEARTBEAT = 3;
+    static final int MAX_FRAME_CHANGES = 4096;
+    static final long HEARTBEAT_MILLIS = 100;
+    static final int BUFFER_BYTES = 1 << 16;
+    private static final int MAX_NAME_BYTES = 1 << 24;
+    private final StudentService service;
+    private final ServerSocket server;
+    private final long epoch = ThreadLocalRandom.current().nextLong() | 1L;
+    private final Set<Socket> followers = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+    private final LongAdder snapshotsSent = new LongAdder();
+    private final StudentChangeStream.Subscription retained;
+    private volatile boolean closed;
+    public StudentReplicationLeader(StudentService service, InetSocketAddress address) throws IOException {
+        this.service = Objects.requireNonNull(service, "service");
+        server = new ServerSocket();
+        server.bind(address);
+        acceptor = new Thread(this::accept, "student-replication-leader");
+        acceptor.setDaemon(true);
+        service.metrics().gauge("replicationFollowers", followers::size);
+        retained = service.changes().subscribe();
+    }
+    public void start() {
+        acceptor.start();
+    }
+    public int port() {
+        return server.getLocalPort();
+    }
+    @Override
+    public void close() {
+        closed = true;
+        retained.close();
+        try {
+            server.close();
+            for (Socket follower : followers) {
+                follower.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    long epoch() {
+        return epoch;
+    }
+    long snapshotsSent() {
+        return snapshotsSent.sum();
+    }
+    static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    static String readName(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_NAME_BYTES) throw new IOException("Invalid name length " + length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    private void accept() {
+        while (!closed) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (IOException e) {
+                return;
+            }
+            followers.add(socket);
+            Thread follower = new Thread(() -> serve(socket), "student-replication-" + socket.getRemoteSocketAddress());
+            follower.setDaemon(true);
+            follower.start();
+        }
+    }
+    private void serve(Socket socket) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (socket) {
+            if (closed) return;
+            socket.setTcpNoDelay(true);
+            DataInputStream handshake = new DataInputStream(socket.getInputStream());
+            if (handshake.readInt() != MAGIC) return;
+            long followerEpoch = handshake.readLong();
+            long next = handshake.readLong();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new DeflaterOutputStream(
+                    new BufferedOutputStream(socket.getOutputStream(), BUFFER_BYTES), deflater, BUFFER_BYTES, true), BUFFER_BYTES));
+            StudentChangeStream changes = service.changes();
+            stream(followerEpoch == epoch && next >= 1 && next <= changes.lastSequence() + 1 ? changes.subscribeFrom(next) : sendSnapshot(out), out);
+        } catch (IOException e) {
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            deflater.end();
+            followers.remove(socket);
+        }
+    }
+    private void stream(StudentChangeStream.Subscription subscription, DataOutputStream out) throws IOException, InterruptedException {
+        List<StudentChange> batch = new ArrayList<>(MAX_FRAME_CHANGES);
+        try {
+            while (!closed) {
+                try {
+                    int n = subscription.poll(MAX_FRAME_CHANGES, HEARTBEAT_MILLIS, TimeUnit.MILLISECONDS, batch::add);
+                    while (n > 0 && batch.size() < MAX_FRAME_CHANGES) {
+                        n = subscription.poll(MAX_FRAME_CHANGES - batch.size(), batch::add);
+                    }
+                } catch (StudentChangeStream.OverrunException e) {
+                    batch.clear();
+                    subscription.close();
+                    subscription = sendSnapshot(out);
+                    continue;
+                }
+                writeChanges(batch, out);
+                batch.clear();
+            }
+        } finally {
+            subscription.close();
+        }
+    }
+    private void writeChanges(List<StudentChange> batch, DataOutputStream out) throws IOException {
+        long leaderSequence = service.changes().lastSequence();
+        if (batch.isEmpty()) {
+            out.writeByte(HEARTBEAT);
+            out.writeLong(leaderSequence);
+        } else {
+            out.writeByte(CHANGES);
+            out.writeLong(leaderSequence);
+            out.writeLong(batch.get(0).sequence());
+            out.writeInt(batch.size());
+            for (StudentChange change : batch) {
+                out.writeByte(change.type().ordinal());
+                out.writeInt(change.id());
+                if (change.type() == StudentChange.Type.DELETED) continue;
+                out.writeInt(change.age());
+                writeName(out, change.name());
+            }
+        }
+        out.flush();
+    }
+    private StudentChangeStream.Subscription sendSnapshot(DataOutputStream out) throws IOException {
+        List<Student> students = new ArrayList<>(service.size());
+        long sequence = service.copyStudents(students);
+        out.writeByte(SNAPSHOT);
+        out.writeLong(epoch);
+        out.writeLong(sequence);
+        out.writeInt(service.nextId());
+        out.writeInt(students.size());
+        for (Student s : students) {
+            out.writeInt(s.getId());
+            out.writeInt(s.getAge());
+            writeName(out, s.getName());
+        }
+        out.flush();
+        snapshotsSent.increment();
+        return service.changes().subscribeFrom(sequence + 1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.studentmanagement;
+import java.util.function.Consumer;
+public interface StudentRepository {
+    int size();
+    Student find(int id);
+    default boolean contains(int id) {
+        return find(id) != null;
+    }
+    default boolean optimisticReads() {
+        return true;
+    }
+    void insert(Student student);
+    boolean update(int id, String name, int age);
+    boolean remove(int id);
+    void forEach(Consumer<? super Student> action);
+    long scan(long cursor, int limit, Consumer<? super Student> action);
+    default long seek(long offset) {
+        long cursor = 0;
+        while (offset > 0 && cursor >= 0) {
+            int step = (int) Math.min(offset, 4096);
+            cursor = scan(cursor, step, s -> { });
+            offset -= step;
+        }
+        return cursor;
+    }
+    default long[] openCursor() {
+        return new long[1];
+    }
+    default int rowSlots() {
+        return 1;
+    }
+    default void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        if (fromSlot == 0 && toSlot > 0) forEach(action);
+    }
+    default StudentRepository snapshot() {
+        return null;
+    }
+    default void atomically(Consumer<? super StudentRepository> edits) {
+        edits.accept(this);
+    }
+    default void ensureCapacity(int additional) {
+    }
+    default boolean compact(int maxSlots) {
+        return false;
+    }
+    default void insertAll(Student[] students) {
+        ensureCapacity(students.length);
+        for (Student s : students) {
+            insert(s);
+        }
+    }
+}
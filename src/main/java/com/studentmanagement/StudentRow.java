@@ -0,0 +1,12 @@
+package com.studentmanagement;
+public interface StudentRow {
+    int getId();
+    String getName();
+    int getAge();
+    default boolean nameEquals(String name) {
+        return getName().equals(name);
+    }
+    default boolean nameStartsWith(String prefix) {
+        return getName().startsWith(prefix);
+    }
+}
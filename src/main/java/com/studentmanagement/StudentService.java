@@ -1,30 +1,644 @@
 package com.studentmanagement;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
-public class StudentService {
-    private final List<Student> students = new ArrayList<>();
-    private int nextId = 1;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+public class StudentService implements AutoCloseable {
+    static final int UNASSIGNED_ID = 0;
+    private static final int IMPORT_BATCH_SIZE = 1 << 14;
+    private static final int CHANGE_BUFFER_SIZE = 1 << 16;
+    private static final int COMPACTION_STEP = 1 << 12;
+    private static final int SCAN_PAGE_SIZE = 1 << 10;
+    private final StampedLock lock = new StampedLock();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final IndexedStudentRepository repository;
+    private final StudentWriteAheadLog log;
+    private final StudentMetrics metrics = new StudentMetrics();
+    private final StudentChangeStream changes = new StudentChangeStream(CHANGE_BUFFER_SIZE);
+    private final LongAdder compactionFailures = new LongAdder();
+    private ScheduledExecutorService compactor;
+    public StudentService() {
+        this(new HeapStudentRepository());
+    }
+    public StudentService(StudentRepository repository) {
+        this.repository = new IndexedStudentRepository(repository);
+        int[] maxId = {0};
+        repository.forEach(s -> maxId[0] = Math.max(maxId[0], s.getId()));
+        nextId.set(maxId[0] + 1);
+        log = null;
+        registerGauges(repository);
+    }
+    public StudentService(Path logFile) throws IOException {
+        repository = new IndexedStudentRepository(new HeapStudentRepository());
+        log = StudentWriteAheadLog.open(logFile, new Replay());
+        registerGauges(repository);
+    }
+    private StudentService(StudentRepository repository, int nextId) {
+        this.repository = new IndexedStudentRepository(repository);
+        this.nextId.set(nextId);
+        log = null;
+        registerGauges(repository);
+    }
+    public static StudentService openSnapshot(Path snapshotFile) throws IOException {
+        StudentSnapshot snapshot = StudentSnapshot.open(snapshotFile);
+        return new StudentService(new MappedStudentRepository(snapshot), snapshot.nextId());
+    }
+    public static StudentService openSnapshot(Path snapshotFile, int cacheSize) throws IOException {
+        StudentSnapshot snapshot = StudentSnapshot.open(snapshotFile);
+        return new StudentService(new CachingStudentRepository(new MappedStudentRepository(snapshot), cacheSize), snapshot.nextId());
+    }
     public Student addStudent(String name, int age) {
-        Student s = new Student(nextId++, name, age);
-        students.add(s);
-        return s;
+        Objects.requireNonNull(name, "name");
+        return insertStudent(nextId.getAndIncrement(), name, age, false);
+    }
+    Student addStudent(int id, String name, int age) {
+        Objects.requireNonNull(name, "name");
+        nextId.accumulateAndGet(id + 1, Math::max);
+        return insertStudent(id, name, age, true);
+    }
+    int nextId() {
+        return nextId.get();
+    }
+    int size() {
+        return repository.size();
+    }
+    void advanceNextId(int next) {
+        nextId.accumulateAndGet(next, Math::max);
+    }
+    long copyStudents(List<Student> into) {
+        long stamp = lock.readLock();
+        try {
+            repository.forEach(into::add);
+            return changes.lastSequence();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    public List<Student> addStudents(Collection<NewStudent> students) {
+        List<Student> batch = new ArrayList<>(students.size());
+        for (NewStudent s : students) {
+            batch.add(unassigned(s));
+        }
+        return Arrays.asList(insertBatch(batch));
+    }
+    public long addStudents(Stream<NewStudent> students) {
+        Spliterator<Student> spliterator = students.map(StudentService::unassigned).spliterator();
+        return addAll(Spliterators.iterator(spliterator), spliterator.getExactSizeIfKnown());
+    }
+    public long importCsv(Reader in) throws IOException {
+        try {
+            return addAll(StudentTransfer.csvReader(in), -1);
+        } catch (StudentTransfer.TransferException e) {
+            throw e.getCause();
+        }
+    }
+    public long importBinary(ReadableByteChannel in) throws IOException {
+        try {
+            return addAll(StudentTransfer.binaryReader(in), -1);
+        } catch (StudentTransfer.TransferException e) {
+            throw e.getCause();
+        }
+    }
+    public void exportCsv(Writer out) throws IOException {
+        StudentTransfer.CsvWriter writer = new StudentTransfer.CsvWriter(out);
+        try {
+            Iterator<Student> rows = pages();
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+            }
+        } catch (StudentTransfer.TransferException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+    public void exportBinary(WritableByteChannel out) throws IOException {
+        StudentTransfer.BinaryWriter writer = new StudentTransfer.BinaryWriter(out);
+        try {
+            Iterator<Student> rows = pages();
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+            }
+        } catch (StudentTransfer.TransferException e) {
+            throw e.getCause();
+        }
+        writer.flush();
     }
     public boolean updateStudent(int id, String newName, int newAge) {
-        Optional<Student> opt = students.stream().filter(s -> s.getId() == id).findFirst();
-        if (opt.isEmpty()) return false;
-        Student s = opt.get();
-        s.setName(newName);
-        s.setAge(newAge);
-        return true;
+        Objects.requireNonNull(newName, "newName");
+        long start = metrics.start();
+        boolean updated = update(id, newName, newAge);
+        metrics.record(StudentMetrics.Operation.UPDATE, start, updated);
+        return updated;
     }
     public boolean deleteStudent(int id) {
-        return students.removeIf(s -> s.getId() == id);
+        long start = metrics.start();
+        boolean deleted = delete(id);
+        metrics.record(StudentMetrics.Operation.DELETE, start, deleted);
+        return deleted;
     }
-    public List<Student> getAllStudents() {
-        return new ArrayList<>(students);
+    public StudentTransaction transaction() {
+        return new StudentTransaction(this);
     }
     public Optional<Student> findById(int id) {
-        return students.stream().filter(s -> s.getId() == id).findFirst();
+        long start = metrics.start();
+        Student s = find(id);
+        metrics.record(StudentMetrics.Operation.FIND, start, s != null);
+        return Optional.ofNullable(s);
+    }
+    public StudentMetrics metrics() {
+        return metrics;
+    }
+    public StudentChangeStream changes() {
+        return changes;
+    }
+    private Student insertStudent(int id, String name, int age, boolean explicit) {
+        long start = metrics.start();
+        Student s = new Student(id, name, age);
+        long seq;
+        long stamp = lock.writeLock();
+        try {
+            if (explicit && repository.contains(id)) throw new IllegalArgumentException("Duplicate student id " + id);
+            seq = log == null ? 0L : log.appendAdd(s.getId(), name, age);
+            repository.insert(s);
+            changes.publish(StudentChange.Type.ADDED, id, name, age);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(seq);
+        metrics.record(StudentMetrics.Operation.ADD, start, true);
+        return s;
+    }
+    private boolean update(int id, String newName, int newAge) {
+        long seq;
+        long stamp = lock.writeLock();
+        try {
+            if (!repository.contains(id)) return false;
+            seq = log == null ? 0L : log.appendUpdate(id, newName, newAge);
+            repository.update(id, newName, newAge);
+            changes.publish(StudentChange.Type.UPDATED, id, newName, newAge);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(seq);
+        return true;
+    }
+    private boolean delete(int id) {
+        long seq;
+        long stamp = lock.writeLock();
+        try {
+            if (!repository.contains(id)) return false;
+            seq = log == null ? 0L : log.appendDelete(id);
+            repository.remove(id);
+            changes.publish(StudentChange.Type.DELETED, id, null, 0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(seq);
+        return true;
+    }
+    List<Student> commit(StudentTransaction tx) {
+        long start = metrics.start();
+        int n = tx.size();
+        Student[] added = new Student[tx.addCount()];
+        long seq;
+        long stamp = lock.writeLock();
+        try {
+            try {
+                rejectMissing(tx);
+            } catch (StudentTransaction.RollbackException e) {
+                metrics.record(StudentMetrics.Operation.COMMIT, start, false);
+                throw e;
+            }
+            int id = nextId.getAndAdd(added.length);
+            for (int i = 0, a = 0; i < n; i++) {
+                if (tx.type(i) == StudentChange.Type.ADDED) {
+                    tx.assignId(i, id);
+                    added[a++] = new Student(id++, tx.name(i), tx.age(i));
+                }
+            }
+            seq = log == null || n == 0 ? 0L : log.appendBatch(tx);
+            repository.atomically(r -> {
+                for (int i = 0, a = 0; i < n; i++) {
+                    switch (tx.type(i)) {
+                        case ADDED -> r.insert(added[a++]);
+                        case UPDATED -> r.update(tx.id(i), tx.name(i), tx.age(i));
+                        case DELETED -> r.remove(tx.id(i));
+                    }
+                }
+            });
+            for (int i = 0; i < n; i++) {
+                changes.publish(tx.type(i), tx.id(i), tx.name(i), tx.age(i));
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(seq);
+        metrics.record(StudentMetrics.Operation.COMMIT, start, true);
+        return Arrays.asList(added);
+    }
+    public List<Student> getAllStudents() {
+        return read(StudentView::getAllStudents);
+    }
+    public List<Student> page(long offset, int limit) {
+        if (offset < 0 || limit < 0) throw new IllegalArgumentException("offset and limit must not be negative");
+        return read(view -> view.page(offset, limit));
+    }
+    public void forEach(Consumer<? super Student> visitor) {
+        read(view -> {
+            view.forEach(visitor);
+            return null;
+        });
+    }
+    public StudentView snapshot() {
+        StudentRepository version = repository.snapshot();
+        if (version != null) return new StudentView(version);
+        HeapStudentRepository copy = new HeapStudentRepository();
+        copy.insertAll(copyRows());
+        return new StudentView(copy);
+    }
+    public Stream<Student> stream() {
+        StudentRepository version = repository.snapshot();
+        if (version != null) return new StudentView(version).stream();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Pages(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+    public List<Student> findByAgeRange(int minAge, int maxAge) {
+        ensureIndexed();
+        long stamp = lock.readLock();
+        try {
+            List<Student> result = new ArrayList<>();
+            repository.forEachAgeBetween(minAge, maxAge, result::add);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    public List<Student> findByNamePrefix(String prefix) {
+        Objects.requireNonNull(prefix, "prefix");
+        ensureIndexed();
+        long stamp = lock.readLock();
+        try {
+            List<Student> result = new ArrayList<>();
+            repository.forEachNameWithPrefix(prefix, result::add);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    public List<Student> searchByName(String query, int maxEdits, int limit) {
+        Objects.requireNonNull(query, "query");
+        if (maxEdits < 0 || maxEdits > NameSearchIndex.MAX_EDITS) {
+            throw new IllegalArgumentException("maxEdits must be between 0 and " + NameSearchIndex.MAX_EDITS);
+        }
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        ensureSearchable();
+        long stamp = lock.readLock();
+        try {
+            List<Student> result = new ArrayList<>();
+            repository.forEachNameMatch(query, maxEdits, limit, result::add);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    public List<Student> findByNameContaining(String text, int limit) {
+        Objects.requireNonNull(text, "text");
+        if (limit < 0) throw new IllegalArgumentException("limit must not be negative");
+        ensureSearchable();
+        long stamp = lock.readLock();
+        try {
+            List<Student> result = new ArrayList<>();
+            repository.forEachNameContaining(text, limit, result::add);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    public <A, R> R aggregate(Predicate<? super StudentRow> filter, StudentAggregation<A, R> aggregation) {
+        return aggregation.finish(accumulate(filter, aggregation));
+    }
+    <A> A accumulate(Predicate<? super StudentRow> filter, StudentAggregation<A, ?> aggregation) {
+        return read(view -> StudentQuery.accumulate(view.repository(), filter, aggregation));
+    }
+    public void writeSnapshot(Path snapshotFile) throws IOException {
+        int[] ids;
+        int[] ages;
+        String[] names;
+        int next;
+        StudentRepository version = repository.snapshot();
+        long stamp = version == null ? lock.readLock() : 0L;
+        try {
+            StudentRepository source = version == null ? repository : version;
+            int count = source.size();
+            ids = new int[count];
+            ages = new int[count];
+            names = new String[count];
+            int[] row = {0};
+            source.forEach(s -> {
+                int i = row[0]++;
+                ids[i] = s.getId();
+                ages[i] = s.getAge();
+                names[i] = s.getName();
+            });
+            next = nextId.get();
+        } finally {
+            if (stamp != 0L) lock.unlockRead(stamp);
+        }
+        sortById(ids, ages, names);
+        StudentSnapshot.write(snapshotFile, next, ids, ages, names);
+    }
+    public void compact() {
+        for (int passes = 0; passes < 2; ) {
+            long stamp = lock.writeLock();
+            try {
+                if (!repository.compact(COMPACTION_STEP)) passes++;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+    public synchronized void startBackgroundCompaction(Duration interval) {
+        if (interval.isNegative() || interval.isZero()) throw new IllegalArgumentException("interval must be positive");
+        if (compactor != null) throw new IllegalStateException("Background compaction already started");
+        compactor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "student-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = interval.toNanos();
+        compactor.scheduleWithFixedDelay(this::compactQuietly, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (compactor != null) {
+                compactor.shutdownNow();
+                compactor = null;
+            }
+        }
+        if (log == null) return;
+        try {
+            log.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    private static Student unassigned(NewStudent s) {
+        return new Student(UNASSIGNED_ID, s.name(), s.age());
+    }
+    private long addAll(Iterator<Student> students, long expectedSize) {
+        if (expectedSize > 0) {
+            long stamp = lock.writeLock();
+            try {
+                repository.ensureCapacity((int) Math.min(expectedSize, Integer.MAX_VALUE - 8));
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+        List<Student> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        long total = 0;
+        while (students.hasNext()) {
+            batch.add(students.next());
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                insertBatch(batch);
+                total += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch);
+            total += batch.size();
+        }
+        return total;
+    }
+    private Student[] insertBatch(List<Student> batch) {
+        int n = batch.size();
+        Student[] created = new Student[n];
+        if (n == 0) return created;
+        long seq = 0L;
+        long stamp = lock.writeLock();
+        try {
+            assignIds(batch, created);
+            if (log != null) seq = log.appendAdds(created);
+            repository.insertAll(created);
+            for (Student s : created) {
+                changes.publish(StudentChange.Type.ADDED, s.getId(), s.getName(), s.getAge());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        awaitDurable(seq);
+        return created;
+    }
+    private void assignIds(List<Student> batch, Student[] created) {
+        IntIntMap explicit = new IntIntMap();
+        int unassigned = 0;
+        int maxId = 0;
+        for (Student s : batch) {
+            int id = s.getId();
+            if (id == UNASSIGNED_ID) {
+                unassigned++;
+                continue;
+            }
+            if (explicit.put(id, id) != IntIntMap.MISSING || repository.contains(id)) throw new IllegalArgumentException("Duplicate student id " + id);
+            maxId = Math.max(maxId, id);
+        }
+        int id = nextId.accumulateAndGet(maxId + 1, Math::max);
+        if (unassigned > 0) id = nextId.getAndAdd(unassigned);
+        for (int i = 0; i < created.length; i++) {
+            Student s = batch.get(i);
+            created[i] = s.getId() == UNASSIGNED_ID ? new Student(id++, s.getName(), s.getAge()) : s;
+        }
+    }
+    private Student[] copyRows() {
+        long stamp = lock.readLock();
+        try {
+            Student[] students = new Student[repository.size()];
+            int[] row = {0};
+            repository.forEach(s -> students[row[0]++] = s);
+            return students;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    private Iterator<Student> pages() {
+        StudentRepository version = repository.snapshot();
+        return version != null ? new StudentView(version).stream().iterator() : new Pages();
+    }
+    private <T> T read(Function<StudentView, T> reader) {
+        StudentRepository version = repository.snapshot();
+        if (version != null) return reader.apply(new StudentView(version));
+        long stamp = lock.readLock();
+        try {
+            return reader.apply(new StudentView(repository));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    private Student find(int id) {
+        StudentRepository version = repository.snapshot();
+        if (version != null) return version.find(id);
+        long stamp = repository.optimisticReads() ? lock.tryOptimisticRead() : 0L;
+        if (stamp != 0L) {
+            try {
+                Student s = repository.find(id);
+                if (lock.validate(stamp)) return s;
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) throw e;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return repository.find(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    private void rejectMissing(StudentTransaction tx) {
+        Map<Integer, Boolean> staged = null;
+        for (int i = 0; i < tx.size(); i++) {
+            StudentChange.Type type = tx.type(i);
+            if (type == StudentChange.Type.ADDED) continue;
+            int id = tx.id(i);
+            Boolean present = staged == null ? null : staged.get(id);
+            if (present == null ? repository.find(id) == null : !present) throw new StudentTransaction.RollbackException(i, id);
+            if (type == StudentChange.Type.DELETED) {
+                if (staged == null) staged = new HashMap<>();
+                staged.put(id, Boolean.FALSE);
+            }
+        }
+    }
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (Throwable e) {
+            compactionFailures.increment();
+        }
+    }
+    private void registerGauges(StudentRepository storage) {
+        metrics.gauge("students", repository::size);
+        metrics.gauge("nextId", nextId::get);
+        metrics.gauge("changeSequence", changes::lastSequence);
+        metrics.gauge("rowSlots", repository::rowSlots);
+        metrics.gauge("compactionFailures", compactionFailures::sum);
+        if (storage instanceof CachingStudentRepository cache) {
+            metrics.gauge("cacheSize", cache::cachedSize);
+            metrics.gauge("cacheHits", cache::hitCount);
+            metrics.gauge("cacheMisses", cache::missCount);
+            metrics.gauge("cacheEvictions", cache::evictionCount);
+        }
+    }
+    private void ensureIndexed() {
+        if (repository.isIndexed()) return;
+        long stamp = lock.writeLock();
+        try {
+            if (!repository.isIndexed()) repository.buildIndexes();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    private void ensureSearchable() {
+        if (repository.isSearchable()) return;
+        long stamp = lock.writeLock();
+        try {
+            if (!repository.isSearchable()) repository.buildSearchIndex();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    private void awaitDurable(long seq) {
+        if (log == null) return;
+        try {
+            log.sync(seq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist student change", e);
+        }
+    }
+    private static void sortById(int[] ids, int[] ages, String[] names) {
+        int count = ids.length;
+        boolean sorted = true;
+        for (int i = 1; i < count && sorted; i++) {
+            sorted = ids[i - 1] < ids[i];
+        }
+        if (sorted) return;
+        long[] order = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(order);
+        int[] sortedAges = new int[count];
+        String[] sortedNames = new String[count];
+        for (int i = 0; i < count; i++) {
+            int from = (int) order[i];
+            ids[i] = (int) (order[i] >> 32);
+            sortedAges[i] = ages[from];
+            sortedNames[i] = names[from];
+        }
+        System.arraycopy(sortedAges, 0, ages, 0, count);
+        System.arraycopy(sortedNames, 0, names, 0, count);
+    }
+    private final class Pages implements Iterator<Student> {
+        private final ArrayDeque<Student> page = new ArrayDeque<>(SCAN_PAGE_SIZE);
+        private final long[] cursor = repository.openCursor();
+        @Override
+        public boolean hasNext() {
+            if (page.isEmpty() && cursor[0] >= 0) fetch();
+            return !page.isEmpty();
+        }
+        @Override
+        public Student next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return page.poll();
+        }
+        private void fetch() {
+            long stamp = lock.readLock();
+            try {
+                cursor[0] = repository.scan(cursor[0], SCAN_PAGE_SIZE, page::add);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+    private final class Replay implements StudentWriteAheadLog.Handler {
+        @Override
+        public void add(int id, String name, int age) {
+            repository.insert(new Student(id, name, age));
+            if (id >= nextId.get()) nextId.set(id + 1);
+        }
+        @Override
+        public void update(int id, String name, int age) {
+            repository.update(id, name, age);
+        }
+        @Override
+        public void delete(int id) {
+            repository.remove(id);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package com.studentmanagement;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+final class StudentSnapshot {
+    static final int MAGIC = 0x53544E53;
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private final int count;
+    private final int nextId;
+    private final IntBuffer ids;
+    private final IntBuffer ages;
+    private final IntBuffer nameOffsets;
+    private final ByteBuffer names;
+    private StudentSnapshot(int count, int nextId, IntBuffer ids, IntBuffer ages, IntBuffer nameOffsets, ByteBuffer names) {
+        this.count = count;
+        this.nextId = nextId;
+        this.ids = ids;
+        this.ages = ages;
+        this.nameOffsets = nameOffsets;
+        this.names = names;
+    }
+    static StudentSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) break;
+            }
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) throw new IOException("Not a student snapshot: " + file);
+            int version = header.getInt(4);
+            if (version != VERSION) throw new IOException("Unsupported snapshot version " + version + ": " + file);
+            int count = header.getInt(8);
+            int nextId = header.getInt(12);
+            long namesBytes = header.getLong(16);
+            long columnBytes = (long) count * Integer.BYTES;
+            long offsetBytes = columnBytes + Integer.BYTES;
+            if (count < 0 || namesBytes < 0 || namesBytes > Integer.MAX_VALUE
+                    || channel.size() != HEADER_BYTES + columnBytes * 2 + offsetBytes + namesBytes) {
+                throw new IOException("Corrupt or truncated snapshot: " + file);
+            }
+            long position = HEADER_BYTES;
+            IntBuffer ids = channel.map(FileChannel.MapMode.READ_ONLY, position, columnBytes).asIntBuffer();
+            position += columnBytes;
+            IntBuffer ages = channel.map(FileChannel.MapMode.READ_ONLY, position, columnBytes).asIntBuffer();
+            position += columnBytes;
+            IntBuffer nameOffsets = channel.map(FileChannel.MapMode.READ_ONLY, position, offsetBytes).asIntBuffer();
+            position += offsetBytes;
+            ByteBuffer names = channel.map(FileChannel.MapMode.READ_ONLY, position, namesBytes);
+            return new StudentSnapshot(count, nextId, ids, ages, nameOffsets, names);
+        }
+    }
+    static void write(Path file, int nextId, int[] ids, int[] ages, String[] names) throws IOException {
+        int count = ids.length;
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ColumnWriter out = new ColumnWriter(channel, HEADER_BYTES);
+            for (int i = 0; i < count; i++) out.putInt(ids[i]);
+            for (int i = 0; i < count; i++) out.putInt(ages[i]);
+            long offset = 0;
+            out.putInt(0);
+            for (int i = 0; i < count; i++) {
+                offset += utf8Length(names[i]);
+                if (offset > Integer.MAX_VALUE) throw new IOException("Name pool exceeds 2 GB");
+                out.putInt((int) offset);
+            }
+            for (int i = 0; i < count; i++) out.put(names[i].getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(nextId).putLong(offset).flip();
+            while (header.hasRemaining()) channel.write(header, header.position());
+            channel.force(true);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    int count() {
+        return count;
+    }
+    int nextId() {
+        return nextId;
+    }
+    int id(int row) {
+        return ids.get(row);
+    }
+    int age(int row) {
+        return ages.get(row);
+    }
+    String name(int row) {
+        int start = nameOffsets.get(row);
+        int length = nameOffsets.get(row + 1) - start;
+        byte[] bytes = new byte[length];
+        names.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    boolean nameStartsWith(int row, byte[] prefix) {
+        int start = nameOffsets.get(row);
+        if (nameOffsets.get(row + 1) - start < prefix.length) return false;
+        for (int i = 0; i < prefix.length; i++) {
+            if (names.get(start + i) != prefix[i]) return false;
+        }
+        return true;
+    }
+    int indexOf(int id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cur = ids.get(mid);
+            if (cur < id) low = mid + 1;
+            else if (cur > id) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+    static int utf8Length(String s) {
+        int length = s.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                bytes++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+    private static final class ColumnWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private long position;
+        ColumnWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+        void putInt(int value) throws IOException {
+            if (buf.remaining() < Integer.BYTES) flush();
+            buf.putInt(value);
+        }
+        void put(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buf.hasRemaining()) flush();
+                int chunk = Math.min(buf.remaining(), bytes.length - offset);
+                buf.put(bytes, offset, chunk);
+                offset += chunk;
+            }
+        }
+        void flush() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) position += channel.write(buf, position);
+            buf.clear();
+        }
+    }
+}
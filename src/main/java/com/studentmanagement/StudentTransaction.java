@@ -0,0 +1,89 @@
+package com.studentmanagement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+public final class StudentTransaction {
+    private final StudentService service;
+    private StudentChange.Type[] types = new StudentChange.Type[16];
+    private int[] ids = new int[16];
+    private String[] names = new String[16];
+    private int[] ages = new int[16];
+    private int size;
+    private int adds;
+    private boolean done;
+    StudentTransaction(StudentService service) {
+        this.service = service;
+    }
+    public StudentTransaction add(String name, int age) {
+        Objects.requireNonNull(name, "name");
+        stage(StudentChange.Type.ADDED, 0, name, age);
+        adds++;
+        return this;
+    }
+    public StudentTransaction update(int id, String name, int age) {
+        Objects.requireNonNull(name, "name");
+        stage(StudentChange.Type.UPDATED, id, name, age);
+        return this;
+    }
+    public StudentTransaction delete(int id) {
+        stage(StudentChange.Type.DELETED, id, null, 0);
+        return this;
+    }
+    public int size() {
+        return size;
+    }
+    public List<Student> commit() {
+        if (done) throw new IllegalStateException("Transaction already committed");
+        done = true;
+        return service.commit(this);
+    }
+    int addCount() {
+        return adds;
+    }
+    StudentChange.Type type(int i) {
+        return types[i];
+    }
+    int id(int i) {
+        return ids[i];
+    }
+    String name(int i) {
+        return names[i];
+    }
+    int age(int i) {
+        return ages[i];
+    }
+    void assignId(int i, int id) {
+        ids[i] = id;
+    }
+    private void stage(StudentChange.Type type, int id, String name, int age) {
+        if (done) throw new IllegalStateException("Transaction already committed");
+        if (size == types.length) {
+            int capacity = size << 1;
+            types = Arrays.copyOf(types, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+        }
+        types[size] = type;
+        ids[size] = id;
+        names[size] = name;
+        ages[size] = age;
+        size++;
+    }
+    public static final class RollbackException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final int operation;
+        private final int studentId;
+        RollbackException(int operation, int studentId) {
+            super("Transaction rolled back: operation " + operation + " targets missing student " + studentId);
+            this.operation = operation;
+            this.studentId = studentId;
+        }
+        public int operation() {
+            return operation;
+        }
+        public int studentId() {
+            return studentId;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package com.studentmanagement;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+final class StudentTransfer {
+    static final int BINARY_MAGIC = 0x53544258;
+    static final int BINARY_VERSION = 1;
+    static final String CSV_HEADER = "id,name,age";
+    private static final int BUFFER_BYTES = 1 << 16;
+    private StudentTransfer() {
+    }
+    static Iterator<Student> csvReader(Reader in) {
+        return new CsvIterator(in);
+    }
+    static Iterator<Student> binaryReader(ReadableByteChannel in) {
+        return new BinaryIterator(in);
+    }
+    static final class CsvWriter {
+        private final LineWriter out;
+        CsvWriter(Writer out) throws IOException {
+            this.out = new LineWriter(out);
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+        void write(Student s) {
+            StringBuilder line = out.line();
+            line.append(s.getId()).append(',');
+            appendCsvField(line, s.getName());
+            line.append(',').append(s.getAge());
+            out.writeLine();
+        }
+    }
+    static final class BinaryWriter {
+        private final WritableByteChannel out;
+        private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        private byte[] name = new byte[256];
+        BinaryWriter(WritableByteChannel out) {
+            this.out = out;
+            buf.putInt(BINARY_MAGIC).putInt(BINARY_VERSION);
+        }
+        void write(Student s) {
+            int length = encode(s.getName());
+            try {
+                if (buf.remaining() < Integer.BYTES * 3 + length) flush();
+                buf.putInt(s.getId()).putInt(s.getAge()).putInt(length);
+                int offset = 0;
+                while (offset < length) {
+                    if (!buf.hasRemaining()) flush();
+                    int chunk = Math.min(buf.remaining(), length - offset);
+                    buf.put(name, offset, chunk);
+                    offset += chunk;
+                }
+            } catch (IOException e) {
+                throw new TransferException(e);
+            }
+        }
+        private int encode(String value) {
+            int length = StudentSnapshot.utf8Length(value);
+            if (length > name.length) name = new byte[Math.max(length, name.length << 1)];
+            byte[] out = name;
+            int n = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    out[n++] = (byte) c;
+                } else if (c < 0x800) {
+                    out[n++] = (byte) (0xC0 | c >> 6);
+                    out[n++] = (byte) (0x80 | c & 0x3F);
+                } else if (!Character.isSurrogate(c)) {
+                    out[n++] = (byte) (0xE0 | c >> 12);
+                    out[n++] = (byte) (0x80 | c >> 6 & 0x3F);
+                    out[n++] = (byte) (0x80 | c & 0x3F);
+                } else if (isSurrogatePair(value, i)) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    out[n++] = (byte) (0xF0 | cp >> 18);
+                    out[n++] = (byte) (0x80 | cp >> 12 & 0x3F);
+                    out[n++] = (byte) (0x80 | cp >> 6 & 0x3F);
+                    out[n++] = (byte) (0x80 | cp & 0x3F);
+                } else {
+                    out[n++] = (byte) '?';
+                }
+            }
+            return length;
+        }
+        void flush() throws IOException {
+            buf.flip();
+            while (buf.hasRemaining()) out.write(buf);
+            buf.clear();
+        }
+    }
+    static final class LineWriter {
+        private final Writer out;
+        private final StringBuilder line = new StringBuilder(64);
+        private char[] chars = new char[64];
+        LineWriter(Writer out) {
+            this.out = out;
+        }
+        StringBuilder line() {
+            line.setLength(0);
+            return line;
+        }
+        void writeLine() {
+            line.append('\n');
+            int length = line.length();
+            if (length > chars.length) chars = new char[Math.max(length, chars.length << 1)];
+            line.getChars(0, length, chars, 0);
+            try {
+                out.write(chars, 0, length);
+            } catch (IOException e) {
+                throw new TransferException(e);
+            }
+        }
+    }
+    static void appendCsvField(StringBuilder line, String name) {
+        boolean quote = false;
+        for (int i = 0; i < name.length() && !quote; i++) {
+            char c = name.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote && (name.isEmpty() || name.charAt(0) != ' ')) {
+            line.append(name);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"') line.append('"');
+            line.append(c);
+        }
+        line.append('"');
+    }
+    private static boolean isSurrogatePair(String value, int i) {
+        return Character.isHighSurrogate(value.charAt(i)) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1));
+    }
+    static final class TransferException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        TransferException(IOException cause) {
+            super(cause);
+        }
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+    private static final class CsvIterator implements Iterator<Student> {
+        private final Reader in;
+        private final char[] buf = new char[BUFFER_BYTES];
+        private final StringBuilder field = new StringBuilder(64);
+        private final String[] fields = new String[3];
+        private int pos;
+        private int limit;
+        private int lineNumber;
+        private Student next;
+        private boolean done;
+        CsvIterator(Reader in) {
+            this.in = in;
+        }
+        @Override
+        public boolean hasNext() {
+            while (next == null && !done) {
+                try {
+                    next = parseLine();
+                } catch (IOException e) {
+                    throw new TransferException(e);
+                }
+            }
+            return next != null;
+        }
+        @Override
+        public Student next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Student result = next;
+            next = null;
+            return result;
+        }
+        private Student parseLine() throws IOException {
+            int count = 0;
+            boolean blank = true;
+            while (true) {
+                int c = read();
+                if (c < 0 && blank && count == 0) {
+                    done = true;
+                    return null;
+                }
+                blank = false;
+                field.setLength(0);
+                if (c == '"') {
+                    while (true) {
+                        c = read();
+                        if (c < 0) throw new IllegalArgumentException("Unterminated quote on line " + (lineNumber + 1));
+                        if (c == '"') {
+                            c = read();
+                            if (c != '"') break;
+                        }
+                        field.append((char) c);
+                    }
+                } else {
+                    while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+                        field.append((char) c);
+                        c = read();
+                    }
+                }
+                if (count == fields.length) throw new IllegalArgumentException("Too many columns on line " + (lineNumber + 1));
+                fields[count++] = field.toString();
+                if (c == ',') continue;
+                if (c == '\r' && peek() == '\n') read();
+                if (c >= 0 && c != '\n' && c != '\r') throw new IllegalArgumentException("Unexpected character after quoted field on line " + (lineNumber + 1));
+                lineNumber++;
+                if (c < 0) done = true;
+                return toStudent(count);
+            }
+        }
+        private Student toStudent(int count) {
+            if (count == 1 && fields[0].isEmpty()) return null;
+            if (lineNumber == 1 && count == 3 && CSV_HEADER.equals(fields[0] + "," + fields[1] + "," + fields[2])) return null;
+            if (count == 2) return new Student(StudentService.UNASSIGNED_ID, fields[0], parseInt(fields[1], "age"));
+            if (count == 3) return new Student(parseId(fields[0]), fields[1], parseInt(fields[2], "age"));
+            throw new IllegalArgumentException("Expected name,age or id,name,age on line " + lineNumber);
+        }
+        private int parseId(String value) {
+            int id = parseInt(value, "id");
+            if (id <= 0) throw new IllegalArgumentException("Invalid id '" + value + "' on line " + lineNumber);
+            return id;
+        }
+        private int parseInt(String value, String what) {
+            int length = value.length();
+            int i = 0;
+            boolean negative = length > 0 && value.charAt(0) == '-';
+            if (negative) i++;
+            if (i == length || length - i > 10) throw new IllegalArgumentException("Invalid " + what + " '" + value + "' on line " + lineNumber);
+            long result = 0;
+            for (; i < length; i++) {
+                int digit = value.charAt(i) - '0';
+                if (digit < 0 || digit > 9) throw new IllegalArgumentException("Invalid " + what + " '" + value + "' on line " + lineNumber);
+                result = result * 10 + digit;
+            }
+            result = negative ? -result : result;
+            if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) throw new IllegalArgumentException("Invalid " + what + " '" + value + "' on line " + lineNumber);
+            return (int) result;
+        }
+        private int read() throws IOException {
+            if (pos == limit && !fill()) return -1;
+            return buf[pos++];
+        }
+        private int peek() throws IOException {
+            if (pos == limit && !fill()) return -1;
+            return buf[pos];
+        }
+        private boolean fill() throws IOException {
+            int n = in.read(buf, 0, buf.length);
+            if (n <= 0) return false;
+            pos = 0;
+            limit = n;
+            return true;
+        }
+    }
+    private static final class BinaryIterator implements Iterator<Student> {
+        private final ReadableByteChannel in;
+        private final ByteBuffer buf = ByteBuffer.allocate(BUFFER_BYTES);
+        private byte[] name = new byte[256];
+        private Student next;
+        private boolean started;
+        private boolean done;
+        BinaryIterator(ReadableByteChannel in) {
+            this.in = in;
+            buf.flip();
+        }
+        @Override
+        public boolean hasNext() {
+            if (next != null || done) return next != null;
+            try {
+                if (!started) {
+                    started = true;
+                    require(Integer.BYTES * 2);
+                    if (buf.getInt() != BINARY_MAGIC) throw new IllegalArgumentException("Not a student export stream");
+                    int version = buf.getInt();
+                    if (version != BINARY_VERSION) throw new IllegalArgumentException("Unsupported export version " + version);
+                }
+                if (!buf.hasRemaining() && !refill()) {
+                    done = true;
+                    return false;
+                }
+                require(Integer.BYTES * 3);
+                int id = buf.getInt();
+                int age = buf.getInt();
+                int length = buf.getInt();
+                if (id <= 0 || length < 0) throw new IllegalArgumentException("Corrupt export stream");
+                if (length > name.length) name = new byte[Math.max(length, name.length << 1)];
+                int offset = 0;
+                while (offset < length) {
+                    if (!buf.hasRemaining() && !refill()) throw new EOFException("Truncated export stream");
+                    int chunk = Math.min(buf.remaining(), length - offset);
+                    buf.get(name, offset, chunk);
+                    offset += chunk;
+                }
+                next = new Student(id, new String(name, 0, length, StandardCharsets.UTF_8), age);
+                return true;
+            } catch (IOException e) {
+                throw new TransferException(e);
+            }
+        }
+        @Override
+        public Student next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Student result = next;
+            next = null;
+            return result;
+        }
+        private void require(int bytes) throws IOException {
+            while (buf.remaining() < bytes) {
+                if (!refill()) throw new EOFException("Truncated export stream");
+            }
+        }
+        private boolean refill() throws IOException {
+            buf.compact();
+            int n = in.read(buf);
+            buf.flip();
+            return n > 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.studentmanagement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+public final class StudentView {
+    private static final int SCAN_PAGE_SIZE = 1024;
+    private final StudentRepository students;
+    StudentView(StudentRepository students) {
+        this.students = students;
+    }
+    public int size() {
+        return students.size();
+    }
+    public Optional<Student> findById(int id) {
+        return Optional.ofNullable(students.find(id));
+    }
+    public List<Student> getAllStudents() {
+        List<Student> result = new ArrayList<>(students.size());
+        students.forEach(result::add);
+        return result;
+    }
+    public List<Student> page(long offset, int limit) {
+        if (offset < 0 || limit < 0) throw new IllegalArgumentException("offset and limit must not be negative");
+        List<Student> result = new ArrayList<>(Math.min(limit, 1024));
+        if (limit == 0) return result;
+        long cursor = students.seek(offset);
+        if (cursor >= 0) students.scan(cursor, limit, result::add);
+        return result;
+    }
+    public void forEach(Consumer<? super Student> visitor) {
+        students.forEach(visitor);
+    }
+    public Stream<Student> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Cursor(), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+    public <A, R> R aggregate(Predicate<? super StudentRow> filter, StudentAggregation<A, R> aggregation) {
+        return aggregation.finish(StudentQuery.accumulate(students, filter, aggregation));
+    }
+    StudentRepository repository() {
+        return students;
+    }
+    private final class Cursor implements Iterator<Student> {
+        private final ArrayDeque<Student> page = new ArrayDeque<>(SCAN_PAGE_SIZE);
+        private long cursor;
+        @Override
+        public boolean hasNext() {
+            if (page.isEmpty() && cursor >= 0) cursor = students.scan(cursor, SCAN_PAGE_SIZE, page::add);
+            return !page.isEmpty();
+        }
+        @Override
+        public Student next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return page.poll();
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.studentmanagement;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+final class StudentWriteAheadLog implements Closeable {
+    interface Handler {
+        void add(int id, String name, int age);
+        void update(int id, String name, int age);
+        void delete(int id);
+    }
+    static final byte ADD = 1;
+    static final byte UPDATE = 2;
+    static final byte DELETE = 3;
+    static final byte BATCH = 4;
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final int TRAILER_BYTES = Integer.BYTES;
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int MAX_PENDING_BYTES = 4 * MAX_RECORD_BYTES;
+    private final FileChannel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer pending = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private ByteBuffer spare = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private long appendedSeq;
+    private long durableSeq;
+    private boolean flushing;
+    private IOException failure;
+    private StudentWriteAheadLog(FileChannel channel) {
+        this.channel = channel;
+    }
+    static StudentWriteAheadLog open(Path file, Handler handler) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long end = replay(channel, handler);
+            if (end < channel.size()) channel.truncate(end);
+            channel.position(end);
+            return new StudentWriteAheadLog(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    long appendAdd(int id, String name, int age) {
+        return append(ADD, id, name, age);
+    }
+    long appendUpdate(int id, String name, int age) {
+        return append(UPDATE, id, name, age);
+    }
+    long appendDelete(int id) {
+        return append(DELETE, id, null, 0);
+    }
+    void sync(long seq) throws IOException {
+        lock.lock();
+        try {
+            while (durableSeq < seq) {
+                if (failure != null) throw new IOException("Write-ahead log is unusable", failure);
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+                flushBatch();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            while (flushing) flushed.awaitUninterruptibly();
+            if (failure == null && durableSeq < appendedSeq) flushBatch();
+        } finally {
+            lock.unlock();
+            channel.close();
+        }
+    }
+    long appendBatch(StudentTransaction tx) {
+        int count = tx.size();
+        byte[][] nameBytes = new byte[count][];
+        long payload = 1 + Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            if (tx.type(i) != StudentChange.Type.DELETED) nameBytes[i] = tx.name(i).getBytes(StandardCharsets.UTF_8);
+            payload += entryBytes(nameBytes[i]);
+        }
+        if (payload > MAX_RECORD_BYTES) throw new IllegalArgumentException("Batch too large: " + payload + " bytes");
+        lock.lock();
+        try {
+            int start = begin((int) payload);
+            pending.put(BATCH).putInt(count);
+            for (int i = 0; i < count; i++) {
+                putEntry(pending, opCode(tx.type(i)), tx.id(i), nameBytes[i], tx.age(i));
+            }
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+    long appendAdds(Student[] students) {
+        int count = students.length;
+        byte[][] nameBytes = new byte[count][];
+        long payload = 1 + Integer.BYTES;
+        for (int i = 0; i < count; i++) {
+            nameBytes[i] = students[i].getName().getBytes(StandardCharsets.UTF_8);
+            payload += entryBytes(nameBytes[i]);
+        }
+        if (payload > MAX_RECORD_BYTES) throw new IllegalArgumentException("Batch too large: " + payload + " bytes");
+        lock.lock();
+        try {
+            int start = begin((int) payload);
+            pending.put(BATCH).putInt(count);
+            for (int i = 0; i < count; i++) {
+                putEntry(pending, ADD, students[i].getId(), nameBytes[i], students[i].getAge());
+            }
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+    private long append(byte op, int id, String name, int age) {
+        byte[] nameBytes = op == DELETE ? null : name.getBytes(StandardCharsets.UTF_8);
+        int payload = entryBytes(nameBytes);
+        if (payload > MAX_RECORD_BYTES) throw new IllegalArgumentException("Record too large: " + payload + " bytes");
+        lock.lock();
+        try {
+            int start = begin(payload);
+            putEntry(pending, op, id, nameBytes, age);
+            return end(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+    private int begin(int payload) {
+        if (failure != null) throw new UncheckedIOException("Write-ahead log is unusable", failure);
+        int required = HEADER_BYTES + payload + TRAILER_BYTES;
+        if (pending.remaining() < required) {
+            if ((long) pending.position() + required > MAX_PENDING_BYTES) throw new IllegalStateException("Write-ahead log backlog exceeds " + MAX_PENDING_BYTES + " bytes");
+            pending = grow(pending, required);
+        }
+        pending.putInt(payload);
+        return pending.position();
+    }
+    private long end(int start) {
+        ByteBuffer buf = pending;
+        crc.reset();
+        crc.update(buf.duplicate().position(start).limit(buf.position()));
+        buf.putInt((int) crc.getValue());
+        return ++appendedSeq;
+    }
+    private static int entryBytes(byte[] nameBytes) {
+        return 1 + Integer.BYTES + (nameBytes == null ? 0 : Integer.BYTES * 2 + nameBytes.length);
+    }
+    private static void putEntry(ByteBuffer buf, byte op, int id, byte[] nameBytes, int age) {
+        buf.put(op).putInt(id);
+        if (nameBytes != null) buf.putInt(age).putInt(nameBytes.length).put(nameBytes);
+    }
+    private static byte opCode(StudentChange.Type type) {
+        return switch (type) {
+            case ADDED -> ADD;
+            case UPDATED -> UPDATE;
+            case DELETED -> DELETE;
+        };
+    }
+    private void flushBatch() throws IOException {
+        ByteBuffer batch = pending;
+        long batchSeq = appendedSeq;
+        pending = spare;
+        spare = null;
+        flushing = true;
+        lock.unlock();
+        IOException error = null;
+        try {
+            batch.flip();
+            while (batch.hasRemaining()) channel.write(batch);
+            channel.force(false);
+        } catch (IOException e) {
+            error = e;
+        } finally {
+            lock.lock();
+            batch.clear();
+            spare = batch;
+            flushing = false;
+            if (error == null) durableSeq = batchSeq;
+            else failure = error;
+            flushed.signalAll();
+        }
+        if (error != null) throw error;
+    }
+    private static ByteBuffer grow(ByteBuffer buf, int required) {
+        int capacity = (int) Math.min(MAX_PENDING_BYTES, Math.max((long) buf.capacity() << 1, buf.position() + required));
+        ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+        buf.flip();
+        larger.put(buf);
+        return larger;
+    }
+    private static long replay(FileChannel channel, Handler handler) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buf = ByteBuffer.allocate(BUFFER_BYTES);
+        byte[] name = new byte[256];
+        long consumed = 0;
+        channel.position(0);
+        while (true) {
+            int read = channel.read(buf);
+            buf.flip();
+            while (buf.remaining() >= HEADER_BYTES) {
+                int start = buf.position();
+                int payload = buf.getInt(start);
+                if (payload <= 0 || payload > MAX_RECORD_BYTES) return consumed;
+                int total = HEADER_BYTES + payload + TRAILER_BYTES;
+                if (buf.remaining() < total) break;
+                crc.reset();
+                crc.update(buf.array(), start + HEADER_BYTES, payload);
+                if ((int) crc.getValue() != buf.getInt(start + HEADER_BYTES + payload)) return consumed;
+                buf.position(start + HEADER_BYTES);
+                byte op = buf.get();
+                if (op == BATCH) {
+                    int count = buf.getInt();
+                    for (int i = 0; i < count; i++) {
+                        name = replayEntry(buf, buf.get(), name, handler);
+                    }
+                } else if (op == ADD || op == UPDATE || op == DELETE) {
+                    name = replayEntry(buf, op, name, handler);
+                } else {
+                    return consumed;
+                }
+                buf.position(start + total);
+                consumed += total;
+            }
+            if (read < 0) return consumed;
+            if (buf.position() == 0 && buf.limit() == buf.capacity()) {
+                ByteBuffer larger = ByteBuffer.allocate(buf.capacity() << 1);
+                larger.put(buf);
+                buf = larger;
+            } else {
+                buf.compact();
+            }
+        }
+    }
+    private static byte[] replayEntry(ByteBuffer buf, byte op, byte[] name, Handler handler) {
+        int id = buf.getInt();
+        if (op == DELETE) {
+            handler.delete(id);
+            return name;
+        }
+        int age = buf.getInt();
+        int length = buf.getInt();
+        if (length > name.length) name = new byte[Math.max(length, name.length << 1)];
+        buf.get(name, 0, length);
+        String decoded = new String(name, 0, length, StandardCharsets.UTF_8);
+        if (op == ADD) handler.add(id, decoded, age);
+        else handler.update(id, decoded, age);
+        return name;
+    }
+}
@@ -0,0 +1,288 @@
+package com.studentmanagement;
+import java.util.function.Consumer;
+public final class VersionedStudentRepository implements StudentRepository {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final int MAX_HEIGHT = (Integer.SIZE + BITS - 1) / BITS;
+    private volatile Version current = new Version(null, 1, 0);
+    @Override
+    public int size() {
+        return current.size;
+    }
+    @Override
+    public Student find(int id) {
+        return current.find(id);
+    }
+    @Override
+    public void insert(Student student) {
+        Version base = current;
+        current = base.with(new Object(), student, base.find(student.getId()) == null ? 1 : 0);
+    }
+    @Override
+    public void insertAll(Student[] students) {
+        atomically(batch -> {
+            for (Student s : students) {
+                batch.insert(s);
+            }
+        });
+    }
+    @Override
+    public boolean update(int id, String name, int age) {
+        Version base = current;
+        if (base.find(id) == null) return false;
+        current = base.with(new Object(), new Student(id, name, age), 0);
+        return true;
+    }
+    @Override
+    public boolean remove(int id) {
+        Version base = current;
+        if (base.find(id) == null) return false;
+        current = base.without(new Object(), id);
+        return true;
+    }
+    @Override
+    public void atomically(Consumer<? super StudentRepository> edits) {
+        Batch batch = new Batch(current);
+        edits.accept(batch);
+        current = batch.version;
+    }
+    @Override
+    public void forEach(Consumer<? super Student> action) {
+        current.forEach(action);
+    }
+    @Override
+    public long scan(long cursor, int limit, Consumer<? super Student> action) {
+        return current.scan(cursor, limit, action);
+    }
+    @Override
+    public long seek(long offset) {
+        return current.seek(offset);
+    }
+    @Override
+    public int rowSlots() {
+        return current.rowSlots();
+    }
+    @Override
+    public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+        current.forEachRow(fromSlot, toSlot, action);
+    }
+    @Override
+    public Version snapshot() {
+        return current;
+    }
+    public static final class Version implements StudentRepository {
+        private final Node root;
+        private final int height;
+        private final int size;
+        private Version(Node root, int height, int size) {
+            this.root = root;
+            this.height = height;
+            this.size = size;
+        }
+        @Override
+        public int size() {
+            return size;
+        }
+        @Override
+        public Student find(int id) {
+            if (id < 0 || !fits(id, height)) return null;
+            Node node = root;
+            for (int shift = topShift(height); node != null; shift -= BITS) {
+                Object child = node.slots[(id >>> shift) & MASK];
+                if (shift == 0) return (Student) child;
+                node = (Node) child;
+            }
+            return null;
+        }
+        @Override
+        public void insert(Student student) {
+            throw readOnly();
+        }
+        @Override
+        public boolean update(int id, String name, int age) {
+            throw readOnly();
+        }
+        @Override
+        public boolean remove(int id) {
+            throw readOnly();
+        }
+        @Override
+        public void forEach(Consumer<? super Student> action) {
+            walk(0, capacity(height), Integer.MAX_VALUE, action);
+        }
+        @Override
+        public long scan(long cursor, int limit, Consumer<? super Student> action) {
+            if (limit <= 0) return cursor;
+            long last = walk(cursor, capacity(height), limit, action);
+            return last < 0 || last + 1 >= capacity(height) ? -1 : last + 1;
+        }
+        @Override
+        public long seek(long offset) {
+            if (offset < 0 || offset >= size) return -1;
+            Node node = root;
+            long base = 0;
+            for (int shift = topShift(height); ; shift -= BITS) {
+                for (int i = 0; i < WIDTH; i++) {
+                    Object child = node.slots[i];
+                    int n = child == null ? 0 : shift == 0 ? 1 : ((Node) child).count;
+                    if (offset < n) {
+                        base += (long) i << shift;
+                        if (shift == 0) return base;
+                        node = (Node) child;
+                        break;
+                    }
+                    offset -= n;
+                }
+            }
+        }
+        @Override
+        public int rowSlots() {
+            return (int) Math.min(capacity(height), Integer.MAX_VALUE);
+        }
+        @Override
+        public void forEachRow(int fromSlot, int toSlot, Consumer<? super StudentRow> action) {
+            long to = toSlot == Integer.MAX_VALUE ? capacity(height) : toSlot;
+            walk(fromSlot, to, Integer.MAX_VALUE, action);
+        }
+        @Override
+        public Version snapshot() {
+            return this;
+        }
+        private Version with(Object edit, Student student, int added) {
+            int id = student.getId();
+            if (id < 0) throw new IllegalArgumentException("Student ids must not be negative: " + id);
+            Node top = root;
+            int h = height;
+            while (!fits(id, h)) {
+                if (top != null) {
+                    Node grown = new Node(edit);
+                    grown.slots[0] = top;
+                    grown.count = top.count;
+                    top = grown;
+                }
+                h++;
+            }
+            return new Version(put(top, topShift(h), id, student, edit, added), h, size + added);
+        }
+        private static Node put(Node node, int shift, int id, Student student, Object edit, int added) {
+            Node target = node == null ? new Node(edit) : node.editable(edit);
+            int i = (id >>> shift) & MASK;
+            target.slots[i] = shift == 0 ? student : put((Node) target.slots[i], shift - BITS, id, student, edit, added);
+            target.count += added;
+            return target;
+        }
+        private Version without(Object edit, int id) {
+            Node top = remove(root, topShift(height), id, edit);
+            return new Version(top, height, size - 1);
+        }
+        private static Node remove(Node node, int shift, int id, Object edit) {
+            if (node.count == 1) return null;
+            Node target = node.editable(edit);
+            int i = (id >>> shift) & MASK;
+            target.slots[i] = shift == 0 ? null : remove((Node) target.slots[i], shift - BITS, id, edit);
+            target.count--;
+            return target;
+        }
+        private long walk(long from, long to, int limit, Consumer<? super Student> action) {
+            if (root == null || from >= to) return -1;
+            Walk walk = new Walk(action, limit);
+            walk(root, topShift(height), 0, Math.max(0, from), to, walk);
+            return walk.last;
+        }
+        private static boolean walk(Node node, int shift, long base, long from, long to, Walk walk) {
+            int first = (int) Math.max(0, (from - base) >> shift);
+            for (int i = first; i < WIDTH; i++) {
+                long childBase = base + ((long) i << shift);
+                if (childBase >= to) return true;
+                Object child = node.slots[i];
+                if (child == null) continue;
+                if (shift == 0) {
+                    walk.action.accept((Student) child);
+                    walk.last = childBase;
+                    if (--walk.remaining == 0) return false;
+                } else if (!walk((Node) child, shift - BITS, childBase, from, to, walk)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        private static boolean fits(int id, int height) {
+            return height >= MAX_HEIGHT || id >>> (height * BITS) == 0;
+        }
+        private static int topShift(int height) {
+            return (height - 1) * BITS;
+        }
+        private static long capacity(int height) {
+            return Math.min(1L << (height * BITS), 1L << Integer.SIZE - 1);
+        }
+        private static UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Snapshots are read-only");
+        }
+    }
+    private static final class Batch implements StudentRepository {
+        private final Object edit = new Object();
+        private Version version;
+        Batch(Version version) {
+            this.version = version;
+        }
+        @Override
+        public int size() {
+            return version.size;
+        }
+        @Override
+        public Student find(int id) {
+            return version.find(id);
+        }
+        @Override
+        public void insert(Student student) {
+            version = version.with(edit, student, version.find(student.getId()) == null ? 1 : 0);
+        }
+        @Override
+        public boolean update(int id, String name, int age) {
+            if (version.find(id) == null) return false;
+            version = version.with(edit, new Student(id, name, age), 0);
+            return true;
+        }
+        @Override
+        public boolean remove(int id) {
+            if (version.find(id) == null) return false;
+            version = version.without(edit, id);
+            return true;
+        }
+        @Override
+        public void forEach(Consumer<? super Student> action) {
+            version.forEach(action);
+        }
+        @Override
+        public long scan(long cursor, int limit, Consumer<? super Student> action) {
+            return version.scan(cursor, limit, action);
+        }
+    }
+    private static final class Node {
+        private final Object[] slots;
+        private final Object edit;
+        private int count;
+        Node(Object edit) {
+            this.slots = new Object[WIDTH];
+            this.edit = edit;
+        }
+        private Node(Node source, Object edit) {
+            this.slots = source.slots.clone();
+            this.edit = edit;
+            this.count = source.count;
+        }
+        Node editable(Object edit) {
+            return this.edit == edit ? this : new Node(this, edit);
+        }
+    }
+    private static final class Walk {
+        private final Consumer<? super Student> action;
+        private int remaining;
+        private long last = -1;
+        Walk(Consumer<? super Student> action, int remaining) {
+            this.action = action;
+            this.remaining = remaining;
+        }
+    }
+}
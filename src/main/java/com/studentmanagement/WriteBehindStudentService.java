@@ -0,0 +1,130 @@
+package com.studentmanagement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+public class WriteBehindStudentService implements AutoCloseable {
+    static final int MAX_PENDING = 1 << 16;
+    private final StudentService service;
+    private final boolean readYourWrites;
+    private final ConcurrentHashMap<Integer, Update> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+    private final LongAdder superseded = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private volatile boolean flushFailed;
+    private volatile boolean closed;
+    public WriteBehindStudentService(StudentService service, Duration window) {
+        this(service, window, false);
+    }
+    public WriteBehindStudentService(StudentService service, Duration window, boolean readYourWrites) {
+        this.service = Objects.requireNonNull(service, "service");
+        if (window.isNegative() || window.isZero()) throw new IllegalArgumentException("window must be positive");
+        this.readYourWrites = readYourWrites;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "student-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long nanos = window.toNanos();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, nanos, nanos, TimeUnit.NANOSECONDS);
+    }
+    public Student addStudent(String name, int age) {
+        return service.addStudent(name, age);
+    }
+    public boolean updateStudent(int id, String newName, int newAge) {
+        Objects.requireNonNull(newName, "newName");
+        if (closed) throw new IllegalStateException("Write-behind service is closed");
+        if (!pending.containsKey(id) && service.findById(id).isEmpty()) return false;
+        if (pending.put(id, new Update(newName, newAge)) != null) superseded.increment();
+        if (closed || flushFailed || pending.size() >= MAX_PENDING) flush();
+        return true;
+    }
+    public boolean deleteStudent(int id) {
+        pending.remove(id);
+        return service.deleteStudent(id);
+    }
+    public Optional<Student> findById(int id) {
+        if (readYourWrites) {
+            Update update = pending.get(id);
+            if (update != null) return service.findById(id).map(s -> new Student(id, update.name, update.age));
+        }
+        return service.findById(id);
+    }
+    public List<Student> getAllStudents() {
+        if (readYourWrites) flush();
+        return service.getAllStudents();
+    }
+    public void flush() {
+        synchronized (flushLock) {
+            flushFailed = false;
+            if (pending.isEmpty()) return;
+            int[] ids = new int[pending.size() + 16];
+            Update[] updates = new Update[ids.length];
+            int n = 0;
+            for (var entry : pending.entrySet()) {
+                if (n == ids.length) break;
+                ids[n] = entry.getKey();
+                updates[n++] = entry.getValue();
+            }
+            StudentTransaction tx = service.transaction();
+            for (int i = 0; i < n; i++) {
+                tx.update(ids[i], updates[i].name, updates[i].age);
+            }
+            try {
+                tx.commit();
+            } catch (StudentTransaction.RollbackException e) {
+                for (int i = 0; i < n; i++) {
+                    service.updateStudent(ids[i], updates[i].name, updates[i].age);
+                }
+            }
+            for (int i = 0; i < n; i++) {
+                pending.remove(ids[i], updates[i]);
+            }
+            flushes.increment();
+        }
+    }
+    public StudentService service() {
+        return service;
+    }
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+    int pendingUpdates() {
+        return pending.size();
+    }
+    long supersededUpdates() {
+        return superseded.sum();
+    }
+    long flushes() {
+        return flushes.sum();
+    }
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Throwable e) {
+            flushFailed = true;
+        }
+    }
+    private static final class Update {
+        final String name;
+        final int age;
+        Update(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncStudentServiceTest {
+
+    private StudentService service;
+    private ManualExecutor executor;
+    private AsyncStudentService async;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        executor = new ManualExecutor();
+        async = new AsyncStudentService(service, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        async.close();
+        service.close();
+    }
+
+    @Test
+    public void testWritesCompleteWithSynchronousResults() {
+        CompletableFuture<Student> added = async.addStudent("Alice", 20);
+        executor.runAll();
+        int id = added.join().getId();
+
+        CompletableFuture<Boolean> updated = async.updateStudent(id, "Alicia", 21);
+        CompletableFuture<Boolean> missing = async.updateStudent(999, "Nobody", 30);
+        CompletableFuture<Boolean> deleted = async.deleteStudent(id);
+        executor.runAll();
+
+        assertTrue(updated.join());
+        assertFalse(missing.join());
+        assertTrue(deleted.join());
+        assertTrue(service.findById(id).isEmpty());
+    }
+
+    @Test
+    public void testQueuedWritesCommitAsOneBatchInSubmissionOrder() {
+        service.metrics().setEnabled(true);
+        List<CompletableFuture<Student>> adds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            adds.add(async.addStudent("Student" + i, 20));
+        }
+        CompletableFuture<Boolean> rename = async.updateStudent(1, "First", 30);
+
+        assertEquals(1, executor.pending());
+        executor.runAll();
+
+        assertEquals(1, async.writeBatches());
+        for (int i = 0; i < adds.size(); i++) {
+            assertEquals("Student" + i, adds.get(i).join().getName());
+            assertEquals(i + 1, adds.get(i).join().getId());
+        }
+        assertTrue(rename.join());
+        assertEquals("First", service.findById(1).orElseThrow().getName());
+        assertEquals(1, service.metrics().stats(StudentMetrics.Operation.COMMIT).count());
+    }
+
+    @Test
+    public void testBatchWithMissingTargetFallsBackToSingleWrites() {
+        CompletableFuture<Student> added = async.addStudent("Alice", 20);
+        CompletableFuture<Boolean> missing = async.deleteStudent(42);
+        CompletableFuture<Student> other = async.addStudent("Bob", 21);
+        executor.runAll();
+
+        assertEquals("Alice", added.join().getName());
+        assertFalse(missing.join());
+        assertEquals("Bob", other.join().getName());
+        assertEquals(2, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testConcurrentFindsForSameIdShareOneLookup() {
+        Student alice = service.addStudent("Alice", 20);
+
+        CompletableFuture<Optional<Student>> first = async.findById(alice.getId());
+        CompletableFuture<Optional<Student>> second = async.findById(alice.getId());
+        CompletableFuture<Optional<Student>> other = async.findById(999);
+
+        assertEquals(2, executor.pending());
+        executor.runAll();
+
+        assertEquals(alice, first.join().orElseThrow());
+        assertEquals(alice, second.join().orElseThrow());
+        assertTrue(other.join().isEmpty());
+        assertEquals(1, async.coalescedFinds());
+    }
+
+    @Test
+    public void testFindAfterCompletedWriteDoesNotJoinOlderLookup() {
+        Student alice = service.addStudent("Alice", 20);
+        CompletableFuture<Optional<Student>> before = async.findById(alice.getId());
+        executor.runAll();
+        async.updateStudent(alice.getId(), "Alicia", 21);
+        executor.runAll();
+
+        CompletableFuture<Optional<Student>> after = async.findById(alice.getId());
+        executor.runAll();
+
+        assertEquals("Alice", before.join().orElseThrow().getName());
+        assertEquals("Alicia", after.join().orElseThrow().getName());
+        assertEquals(0, async.coalescedFinds());
+    }
+
+    @Test
+    public void testCallerCannotCompleteSharedLookup() {
+        service.addStudent("Alice", 20);
+        CompletableFuture<Optional<Student>> first = async.findById(1);
+        CompletableFuture<Optional<Student>> second = async.findById(1);
+
+        first.complete(Optional.empty());
+        executor.runAll();
+
+        assertEquals("Alice", second.join().orElseThrow().getName());
+    }
+
+    @Test
+    public void testQueriesRunOnExecutor() {
+        service.addStudent("John", 20);
+        service.addStudent("Jane", 30);
+
+        CompletableFuture<List<Student>> all = async.getAllStudents();
+        CompletableFuture<List<Student>> byAge = async.findByAgeRange(25, 35);
+        CompletableFuture<Integer> size = async.call(s -> s.getAllStudents().size());
+        assertFalse(all.isDone());
+        executor.runAll();
+
+        assertEquals(2, all.join().size());
+        assertEquals("Jane", byAge.join().get(0).getName());
+        assertEquals(2, size.join());
+    }
+
+    @Test
+    public void testFailuresCompleteExceptionally() {
+        CompletableFuture<Integer> failed = async.call(s -> {
+            throw new IllegalStateException("boom");
+        });
+        executor.runAll();
+
+        CompletionException e = assertThrows(CompletionException.class, failed::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertThrows(NullPointerException.class, () -> async.addStudent(null, 20));
+    }
+
+    @Test
+    public void testRejectedExecutionFailsQueuedWrites() {
+        AsyncStudentService rejecting = new AsyncStudentService(service, command -> {
+            throw new RejectedExecutionException("closed");
+        });
+
+        CompletableFuture<Student> added = rejecting.addStudent("Alice", 20);
+        CompletableFuture<Optional<Student>> found = rejecting.findById(1);
+
+        assertThrows(CompletionException.class, added::join);
+        assertThrows(CompletionException.class, found::join);
+        assertTrue(service.getAllStudents().isEmpty());
+    }
+
+    @Test
+    public void testDefaultExecutorCompletesManyInFlightOperations() {
+        try (AsyncStudentService pooled = new AsyncStudentService(service)) {
+            List<CompletableFuture<Student>> adds = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                adds.add(pooled.addStudent("Student" + i, 18 + i % 10));
+            }
+            CompletableFuture.allOf(adds.toArray(new CompletableFuture<?>[0])).join();
+
+            List<CompletableFuture<Optional<Student>>> finds = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                finds.add(pooled.findById(1 + i % 100));
+            }
+            for (CompletableFuture<Optional<Student>> find : finds) {
+                assertTrue(find.join().isPresent());
+            }
+            assertEquals(5000, service.getAllStudents().size());
+            assertTrue(pooled.writeBatches() <= 5000);
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingStudentRepositoryTest {
+
+    private CountingRepository backing;
+    private CachingStudentRepository cache;
+
+    @BeforeEach
+    public void setUp() {
+        backing = new CountingRepository();
+        cache = new CachingStudentRepository(backing, 100);
+        for (int id = 1; id <= 1_000; id++) {
+            cache.insert(new Student(id, "Student" + id, 20));
+        }
+    }
+
+    @Test
+    public void testReadThrough() {
+        assertEquals("Student7", cache.find(7).getName());
+        assertEquals("Student7", cache.find(7).getName());
+        assertNull(cache.find(5_000));
+
+        assertEquals(2, backing.finds.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(2, cache.missCount());
+        assertEquals(1.0 / 3, cache.hitRatio(), 1e-9);
+        assertEquals(1, cache.cachedSize());
+    }
+
+    @Test
+    public void testUpdateAndRemoveInvalidate() {
+        cache.find(3);
+        cache.find(4);
+
+        assertTrue(cache.update(3, "Changed", 30));
+        assertTrue(cache.remove(4));
+
+        assertEquals("Changed", cache.find(3).getName());
+        assertNull(cache.find(4));
+        assertEquals(4, backing.finds.get());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        for (int id = 1; id <= 1_000; id++) {
+            cache.find(id);
+        }
+
+        assertEquals(100, cache.cachedSize());
+        assertEquals(900, cache.evictionCount());
+        assertEquals(1_000, cache.size());
+    }
+
+    @Test
+    public void testHotEntriesSurviveScan() {
+        for (int round = 0; round < 10; round++) {
+            for (int id = 1; id <= 50; id++) {
+                cache.find(id);
+            }
+        }
+        for (int id = 101; id <= 1_000; id++) {
+            cache.find(id);
+        }
+        long missesBefore = cache.missCount();
+
+        for (int id = 1; id <= 50; id++) {
+            cache.find(id);
+        }
+
+        assertEquals(missesBefore, cache.missCount());
+    }
+
+    @Test
+    public void testRejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingStudentRepository(backing, 0));
+    }
+
+    @Test
+    public void testSingleEntryCache() {
+        CachingStudentRepository tiny = new CachingStudentRepository(backing, 1);
+
+        tiny.find(1);
+        tiny.find(2);
+        tiny.find(2);
+
+        assertEquals(1, tiny.cachedSize());
+        assertEquals(1, tiny.hitCount());
+    }
+
+    @Test
+    public void testLargeCacheIsSegmented() {
+        CachingStudentRepository large = new CachingStudentRepository(backing, 100_000);
+        for (int round = 0; round < 2; round++) {
+            for (int id = 1; id <= 1_000; id++) {
+                large.find(id);
+            }
+        }
+
+        assertEquals(1_000, large.cachedSize());
+        assertEquals(1_000, large.hitCount());
+        assertEquals(1_000, large.missCount());
+        assertEquals(100_000, large.maximumSize());
+        assertTrue(large.update(5, "Changed", 30));
+        assertEquals("Changed", large.find(5).getName());
+    }
+
+    @Test
+    public void testServiceReadsCacheUnderLock() {
+        assertFalse(cache.optimisticReads());
+        assertTrue(new IndexedStudentRepository(new HeapStudentRepository()).optimisticReads());
+        assertFalse(new IndexedStudentRepository(cache).optimisticReads());
+    }
+
+    @Test
+    public void testReadRacingCompactionIsNotCached() {
+        backing.onFind = () -> cache.compact(64);
+
+        assertEquals("Student7", cache.find(7).getName());
+        assertEquals(0, cache.cachedSize());
+
+        backing.onFind = () -> { };
+        cache.find(7);
+        assertEquals(1, cache.cachedSize());
+    }
+
+    @Test
+    public void testBackgroundCompactionFailuresAreCounted() throws InterruptedException {
+        backing.failCompaction = true;
+        try (StudentService service = new StudentService(cache)) {
+            service.startBackgroundCompaction(Duration.ofMillis(5));
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (service.metrics().getGauges().get("compactionFailures") < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertTrue(service.metrics().getGauges().get("compactionFailures") >= 2);
+        }
+    }
+
+    @Test
+    public void testServiceReportsCacheGauges() {
+        StudentService service = new StudentService(new CachingStudentRepository(new ColumnarStudentRepository(), 10));
+        service.addStudent("Alice", 22);
+        service.findById(1);
+        service.findById(1);
+        service.updateStudent(1, "Alicia", 23);
+
+        assertEquals("Alicia", service.findById(1).get().getName());
+        assertEquals(1L, service.metrics().getGauges().get("cacheHits"));
+        assertEquals(2L, service.metrics().getGauges().get("cacheMisses"));
+    }
+
+    private static final class CountingRepository implements StudentRepository {
+
+        private final HeapStudentRepository delegate = new HeapStudentRepository();
+        private final AtomicInteger finds = new AtomicInteger();
+        private Runnable onFind = () -> { };
+        private boolean failCompaction;
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public Student find(int id) {
+            finds.incrementAndGet();
+            onFind.run();
+            Student s = delegate.find(id);
+            return s == null ? null : new Student(s.getId(), s.getName(), s.getAge());
+        }
+
+        @Override
+        public void insert(Student student) {
+            delegate.insert(student);
+        }
+
+        @Override
+        public boolean update(int id, String name, int age) {
+            return delegate.update(id, name, age);
+        }
+
+        @Override
+        public boolean remove(int id) {
+            return delegate.remove(id);
+        }
+
+        @Override
+        public void forEach(Consumer<? super Student> action) {
+            delegate.forEach(action);
+        }
+
+        @Override
+        public long scan(long cursor, int limit, Consumer<? super Student> action) {
+            return delegate.scan(cursor, limit, action);
+        }
+
+        @Override
+        public boolean compact(int maxSlots) {
+            if (failCompaction) throw new AssertionError("compaction failed");
+            return delegate.compact(maxSlots);
+        }
+    }
+}
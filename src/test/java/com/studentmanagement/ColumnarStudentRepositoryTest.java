@@ -0,0 +1,129 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarStudentRepositoryTest {
+
+    private ColumnarStudentRepository repository;
+    private StudentService service;
+
+    @BeforeEach
+    public void setUp() {
+        repository = new ColumnarStudentRepository();
+        service = new StudentService(repository);
+    }
+
+    @Test
+    public void testAddAndFind() {
+        Student added = service.addStudent("Alice", 22);
+
+        Student found = service.findById(added.getId()).get();
+        assertEquals(1, found.getId());
+        assertEquals("Alice", found.getName());
+        assertEquals(22, found.getAge());
+    }
+
+    @Test
+    public void testUpdateIsVisibleInNewViews() {
+        service.addStudent("Alice", 22);
+
+        assertTrue(service.updateStudent(1, "Alicia", 23));
+
+        Student found = service.findById(1).get();
+        assertEquals("Alicia", found.getName());
+        assertEquals(23, found.getAge());
+        assertFalse(service.updateStudent(2, "Nobody", 1));
+    }
+
+    @Test
+    public void testDeleteAndCompactionKeepOrder() {
+        for (int i = 1; i <= 300; i++) {
+            service.addStudent("Student" + (i % 7), i);
+        }
+        for (int id = 1; id <= 300; id++) {
+            if (id % 4 != 0) {
+                assertTrue(service.deleteStudent(id));
+            }
+        }
+
+        List<Student> students = service.getAllStudents();
+
+        assertEquals(75, students.size());
+        for (int i = 0; i < students.size(); i++) {
+            Student s = students.get(i);
+            assertEquals((i + 1) * 4, s.getId());
+            assertEquals(s.getId(), s.getAge());
+            assertEquals("Student" + (s.getId() % 7), s.getName());
+        }
+        assertFalse(service.deleteStudent(1));
+    }
+
+    @Test
+    public void testWritesDuringCompactionPass() {
+        for (int i = 1; i <= 10_000; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        for (int id = 1; id <= 2_600; id++) {
+            assertTrue(service.deleteStudent(id));
+        }
+
+        assertTrue(repository.compact(100));
+        Student added = service.addStudent("Late", 30);
+        assertTrue(service.updateStudent(5_000, "Moved", 40));
+        assertTrue(service.deleteStudent(9_000));
+        service.compact();
+
+        assertEquals(7_400, repository.rowSlots());
+        assertEquals("Moved", service.findById(5_000).get().getName());
+        assertTrue(service.findById(9_000).isEmpty());
+        List<Student> students = service.getAllStudents();
+        assertEquals(7_400, students.size());
+        assertEquals(2_601, students.get(0).getId());
+        assertEquals(added, students.get(students.size() - 1));
+        for (int i = 1; i < students.size(); i++) {
+            assertTrue(students.get(i - 1).getId() < students.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testRepeatedNamesAreStoredOnce() {
+        for (int i = 0; i < 1_000; i++) {
+            service.addStudent(i % 2 == 0 ? "Alice" : "Bob", 20);
+        }
+
+        assertEquals(1_000, repository.size());
+        assertEquals(2, repository.distinctNames());
+    }
+
+    @Test
+    public void testUpdatesAndDeletesReclaimNames() {
+        for (int i = 0; i < 20_000; i++) {
+            service.addStudent("Student number " + i, 20);
+        }
+        long fullPool = repository.nameBytes();
+        for (int id = 1; id <= 20_000; id++) {
+            if (id % 10 == 0) service.updateStudent(id, "Shared", 21);
+            else service.deleteStudent(id);
+        }
+
+        assertEquals(1, repository.distinctNames());
+        assertTrue(repository.nameBytes() < fullPool / 4);
+        assertEquals("Shared", service.findById(20_000).get().getName());
+        assertEquals(2_000L, service.aggregate(StudentQuery.nameEquals("Shared"), StudentQuery.count()));
+    }
+
+    @Test
+    public void testServiceContinuesIdsOfPopulatedRepository() {
+        ColumnarStudentRepository populated = new ColumnarStudentRepository();
+        populated.insert(new Student(41, "Existing", 30));
+
+        StudentService reused = new StudentService(populated);
+
+        assertEquals(42, reused.addStudent("New", 20).getId());
+    }
+}
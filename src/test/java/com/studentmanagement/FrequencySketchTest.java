@@ -0,0 +1,47 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrequencySketchTest {
+
+    private FrequencySketch sketch;
+
+    @BeforeEach
+    public void setUp() {
+        sketch = new FrequencySketch(1_000);
+    }
+
+    @Test
+    public void testCountsIncrements() {
+        for (int i = 0; i < 5; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(5, sketch.frequency(42));
+        assertEquals(0, sketch.frequency(43));
+    }
+
+    @Test
+    public void testCountersSaturate() {
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(7);
+        }
+
+        assertEquals(15, sketch.frequency(7));
+    }
+
+    @Test
+    public void testAgesByHalving() {
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(1);
+        }
+        for (int key = 2; sketch.frequency(1) == 15; key++) {
+            sketch.increment(key);
+        }
+
+        assertTrue(sketch.frequency(1) <= 8);
+    }
+}
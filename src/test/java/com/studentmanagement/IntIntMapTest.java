@@ -0,0 +1,121 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IntIntMapTest {
+
+    private IntIntMap map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new IntIntMap();
+    }
+
+    @Test
+    public void testGetMissing() {
+        assertEquals(IntIntMap.MISSING, map.get(42));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testPutAndGet() {
+        assertEquals(IntIntMap.MISSING, map.put(1, 10));
+        assertEquals(10, map.put(1, 11));
+
+        assertEquals(11, map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testZeroAndNegativeKeys() {
+        map.put(0, 5);
+        map.put(-1, 6);
+
+        assertEquals(5, map.get(0));
+        assertEquals(6, map.get(-1));
+        assertEquals(5, map.remove(0));
+        assertEquals(IntIntMap.MISSING, map.get(0));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testRemove() {
+        map.put(7, 70);
+
+        assertEquals(70, map.remove(7));
+        assertEquals(IntIntMap.MISSING, map.remove(7));
+        assertEquals(IntIntMap.MISSING, map.get(7));
+    }
+
+    @Test
+    public void testGrowth() {
+        for (int i = 1; i <= 100_000; i++) {
+            map.put(i, i * 2);
+        }
+
+        assertEquals(100_000, map.size());
+        for (int i = 1; i <= 100_000; i++) {
+            assertEquals(i * 2, map.get(i));
+        }
+    }
+
+    @Test
+    public void testRandomOperationsMatchHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(12345);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                Integer previous = expected.remove(key);
+                assertEquals(previous == null ? IntIntMap.MISSING : previous, map.remove(key));
+            } else {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? IntIntMap.MISSING : previous, map.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (int key = -100; key < 4_900; key++) {
+            assertEquals(expected.getOrDefault(key, IntIntMap.MISSING), map.get(key));
+        }
+    }
+
+    @Test
+    public void testTrimAfterRemovals() {
+        for (int i = 1; i <= 100_000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 1; i <= 100_000; i++) {
+            if (i % 1000 != 0) map.remove(i);
+        }
+
+        map.trim();
+
+        assertEquals(100, map.size());
+        for (int i = 1; i <= 100_000; i++) {
+            assertEquals(i % 1000 == 0 ? i : IntIntMap.MISSING, map.get(i));
+        }
+        map.put(7, 70);
+        assertEquals(70, map.get(7));
+    }
+
+    @Test
+    public void testClear() {
+        map.put(0, 1);
+        map.put(3, 4);
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertEquals(IntIntMap.MISSING, map.get(0));
+        assertEquals(IntIntMap.MISSING, map.get(3));
+    }
+}
@@ -0,0 +1,81 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.valueAtPercentile(99));
+        assertEquals(0.0, histogram.mean());
+    }
+
+    @Test
+    public void testBucketsCoverEveryValueWithBoundedError() {
+        long[] values = {0, 1, 31, 32, 33, 63, 64, 1_000, 123_456, 10_000_000_000L, Long.MAX_VALUE >>> 2};
+        int previous = -1;
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            long upper = LatencyHistogram.highestEquivalentValue(index);
+
+            assertTrue(index >= previous);
+            assertTrue(upper >= value);
+            assertTrue(upper - value <= value / 16, "value " + value + " reported as " + upper);
+            previous = index;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        assertEquals(1_000, histogram.count());
+        assertEquals(1_000_000, histogram.max());
+        assertEquals(500_500.0, histogram.mean());
+        assertEquals(500_000, histogram.valueAtPercentile(50), 500_000 / 16.0);
+        assertEquals(990_000, histogram.valueAtPercentile(99), 990_000 / 16.0);
+        assertEquals(1_000_000, histogram.valueAtPercentile(100));
+    }
+
+    @Test
+    public void testConcurrentRecording() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, histogram.count());
+        assertEquals(9_999, histogram.max());
+    }
+
+    @Test
+    public void testReset() {
+        histogram.record(42);
+        histogram.reset();
+
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.valueAtPercentile(50));
+    }
+}
@@ -0,0 +1,118 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameDictionaryTest {
+
+    private NameDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new NameDictionary();
+    }
+
+    @Test
+    public void testEncodeIsStable() {
+        int alice = dictionary.encode("Alice");
+        int bob = dictionary.encode("Bob");
+
+        assertNotEquals(alice, bob);
+        assertEquals(alice, dictionary.encode(new String("Alice")));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void testDecode() {
+        int code = dictionary.encode("María José");
+
+        assertEquals("María José", dictionary.decode(code));
+        assertEquals("", dictionary.decode(dictionary.encode("")));
+    }
+
+    @Test
+    public void testManyDistinctNames() {
+        int[] codes = new int[50_000];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = dictionary.encode("Student" + i);
+        }
+
+        assertEquals(codes.length, dictionary.size());
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals("Student" + i, dictionary.decode(codes[i]));
+            assertEquals(codes[i], dictionary.encode("Student" + i));
+        }
+    }
+
+    @Test
+    public void testReleasedCodesAreReused() {
+        int alice = dictionary.encode("Alice");
+        dictionary.encode("Alice");
+        int bob = dictionary.encode("Bob");
+
+        dictionary.release(alice);
+        assertEquals(alice, dictionary.lookup("Alice"));
+        dictionary.release(alice);
+
+        assertEquals(NameDictionary.MISSING, dictionary.lookup("Alice"));
+        assertEquals(1, dictionary.size());
+        assertEquals(alice, dictionary.encode("Carol"));
+        assertEquals("Carol", dictionary.decode(alice));
+        assertEquals("Bob", dictionary.decode(bob));
+    }
+
+    @Test
+    public void testCompactionKeepsLiveNames() {
+        int[] codes = new int[20_000];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = dictionary.encode("A fairly long student name " + i);
+        }
+        long before = dictionary.poolBytes();
+        for (int i = 0; i < codes.length; i++) {
+            if (i % 100 != 0) dictionary.release(codes[i]);
+        }
+
+        assertTrue(dictionary.poolBytes() < before / 10);
+        assertTrue(dictionary.poolBytes() <= Math.max(2 * dictionary.liveBytes(), 1 << 16));
+        for (int i = 0; i < codes.length; i += 100) {
+            assertEquals("A fairly long student name " + i, dictionary.decode(codes[i]));
+            assertEquals(codes[i], dictionary.lookup("A fairly long student name " + i));
+        }
+    }
+
+    @Test
+    public void testRandomOperationsMatchModel() {
+        Random random = new Random(42);
+        Map<String, Integer> refs = new HashMap<>();
+        Map<String, Integer> codes = new HashMap<>();
+        for (int step = 0; step < 200_000; step++) {
+            String name = "N" + random.nextInt(2_000);
+            if (random.nextBoolean() || !refs.containsKey(name)) {
+                int code = dictionary.encode(name);
+                Integer previous = codes.putIfAbsent(name, code);
+                if (previous != null) assertEquals(previous.intValue(), code);
+                refs.merge(name, 1, Integer::sum);
+            } else {
+                dictionary.release(codes.get(name));
+                if (refs.merge(name, -1, Integer::sum) == 0) {
+                    refs.remove(name);
+                    codes.remove(name);
+                }
+            }
+        }
+
+        assertEquals(refs.size(), dictionary.size());
+        for (int i = 0; i < 2_000; i++) {
+            String name = "N" + i;
+            Integer code = codes.get(name);
+            assertEquals(code == null ? NameDictionary.MISSING : code.intValue(), dictionary.lookup(name));
+            if (code != null) assertEquals(name, dictionary.decode(code));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameIndexTest {
+
+    private NameIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NameIndex();
+    }
+
+    @Test
+    public void testPrefixLookup() {
+        index.add("John", 1);
+        index.add("Joanna", 2);
+        index.add("Bob", 3);
+        index.add("Jo", 4);
+        index.add("Jack", 5);
+
+        assertEquals(List.of(4, 2, 1), prefix("Jo"));
+        assertEquals(List.of(5, 4, 2, 1), prefix("J"));
+        assertTrue(prefix("Z").isEmpty());
+    }
+
+    @Test
+    public void testEmptyPrefixReturnsEverythingInOrder() {
+        index.add("b", 2);
+        index.add("a", 1);
+        index.add("a", 0);
+
+        assertEquals(List.of(0, 1, 2), prefix(""));
+    }
+
+    @Test
+    public void testRemove() {
+        index.add("John", 1);
+        index.add("John", 2);
+
+        assertTrue(index.remove("John", 1));
+        assertFalse(index.remove("John", 1));
+        assertEquals(List.of(2), prefix("John"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testManyEntriesAcrossBlocks() {
+        for (int i = 9_999; i >= 0; i--) {
+            index.add(String.format("Student%05d", i), i);
+        }
+        for (int i = 0; i < 10_000; i += 2) {
+            assertTrue(index.remove(String.format("Student%05d", i), i));
+        }
+
+        List<Integer> ids = prefix("Student01");
+
+        assertEquals(500, ids.size());
+        assertEquals(1_001, ids.get(0));
+        assertEquals(1_999, ids.get(499));
+        assertEquals(5_000, index.size());
+    }
+
+    private List<Integer> prefix(String prefix) {
+        List<Integer> ids = new ArrayList<>();
+        index.forEachWithPrefix(prefix, ids::add);
+        return ids;
+    }
+}
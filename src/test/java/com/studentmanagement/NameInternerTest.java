@@ -0,0 +1,90 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameInternerTest {
+
+    private NameInterner interner;
+
+    @BeforeEach
+    public void setUp() {
+        interner = new NameInterner();
+    }
+
+    @Test
+    public void testEqualNamesShareOneInstance() {
+        String first = interner.acquire(new String("Alice"));
+        String second = interner.acquire(new String("Alice"));
+
+        assertSame(first, second);
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testReleaseDropsUnreferencedNames() {
+        String alice = interner.acquire(new String("Alice"));
+        interner.acquire(new String("Alice"));
+
+        interner.release("Alice");
+        assertSame(alice, interner.acquire(new String("Alice")));
+        interner.release("Alice");
+        interner.release("Alice");
+
+        assertEquals(0, interner.size());
+        assertNotSame(alice, interner.acquire(new String("Alice")));
+        interner.release("Unknown");
+    }
+
+    @Test
+    public void testRandomOperationsMatchModel() {
+        Random random = new Random(7);
+        Map<String, Integer> refs = new HashMap<>();
+        Map<String, String> canonical = new HashMap<>();
+        for (int step = 0; step < 200_000; step++) {
+            String name = "N" + random.nextInt(3_000);
+            if (random.nextBoolean() || !refs.containsKey(name)) {
+                String interned = interner.acquire(name);
+                assertSame(canonical.computeIfAbsent(name, n -> interned), interned);
+                refs.merge(name, 1, Integer::sum);
+            } else {
+                interner.release(name);
+                if (refs.merge(name, -1, Integer::sum) == 0) {
+                    refs.remove(name);
+                    canonical.remove(name);
+                }
+            }
+        }
+
+        assertEquals(refs.size(), interner.size());
+        for (Map.Entry<String, String> e : canonical.entrySet()) {
+            assertSame(e.getValue(), interner.acquire(new String(e.getKey())));
+        }
+    }
+
+    @Test
+    public void testHeapRepositoryDeduplicatesAndReclaimsNames() {
+        HeapStudentRepository repository = new HeapStudentRepository();
+        StudentService service = new StudentService(repository);
+        for (int i = 0; i < 1_000; i++) {
+            service.addStudent(new String(i % 2 == 0 ? "Alice" : "Bob"), 20);
+        }
+
+        assertSame(service.findById(1).get().getName(), service.findById(3).get().getName());
+        assertEquals(2, repository.distinctNames());
+        for (int id = 1; id <= 1_000; id += 2) {
+            service.updateStudent(id, "Carol", 21);
+        }
+        assertEquals(2, repository.distinctNames());
+        for (int id = 2; id <= 1_000; id += 2) {
+            service.deleteStudent(id);
+        }
+        assertEquals(1, repository.distinctNames());
+    }
+}
@@ -0,0 +1,145 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NameSearchIndexTest {
+
+    private NameSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NameSearchIndex();
+    }
+
+    @Test
+    public void testDistanceCountsEditsAndTranspositions() {
+        assertEquals(0, NameSearchIndex.distance("alice", "alice", 2));
+        assertEquals(2, NameSearchIndex.distance("alice", "alicia", 2));
+        assertEquals(1, NameSearchIndex.distance("alice", "ailce", 2));
+        assertEquals(1, NameSearchIndex.distance("bob", "bo", 2));
+        assertEquals(3, NameSearchIndex.distance("bob", "robert", 2));
+    }
+
+    @Test
+    public void testFuzzyFindsMisspelledNames() {
+        index.add("Alice Smith");
+        index.add("Bob Jones");
+        index.add("Alicia Smythe");
+
+        assertEquals(List.of("Alice Smith"), index.fuzzy("alice", 0, 10));
+        assertEquals(List.of("Alice Smith"), index.fuzzy("Alcie", 1, 10));
+        assertEquals(List.of("Alice Smith", "Alicia Smythe"), index.fuzzy("alice smith", 2, 10));
+        assertTrue(index.fuzzy("zelda", 1, 10).isEmpty());
+    }
+
+    @Test
+    public void testFuzzyRanksCloserNamesFirstAndHonoursLimit() {
+        index.add("Jon");
+        index.add("John");
+        index.add("Joan");
+        index.add("Johnny");
+
+        List<String> ranked = index.fuzzy("john", 2, 10);
+        assertEquals("John", ranked.get(0));
+        assertEquals(Set.of("Jon", "John", "Joan", "Johnny"), new HashSet<>(ranked));
+        assertEquals(List.of("John"), index.fuzzy("john", 2, 1));
+        assertTrue(index.fuzzy("john", 2, 0).isEmpty());
+    }
+
+    @Test
+    public void testContainingMatchesSubstringsOfAnyTerm() {
+        index.add("Mary-Ann O'Neil");
+        index.add("Annabel Lee");
+        index.add("Joanna Lee");
+        index.add("Bob");
+
+        assertEquals(List.of("Mary-Ann O'Neil", "Annabel Lee", "Joanna Lee"), index.containing("ann", 10));
+        assertEquals(List.of("Mary-Ann O'Neil"), index.containing("NEI", 10));
+        assertEquals(List.of("Annabel Lee", "Joanna Lee"), index.containing("lee ann", 10));
+        assertEquals(List.of("Bob"), index.containing("b", 10).subList(0, 1));
+        assertTrue(index.containing("xyz", 10).isEmpty());
+        assertTrue(index.containing("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void testRemoveDropsNameOnlyWhenLastReferenceGoes() {
+        index.add("Alice");
+        index.add("Alice");
+        index.remove("Alice");
+
+        assertEquals(List.of("Alice"), index.fuzzy("alice", 0, 10));
+
+        index.remove("Alice");
+        index.remove("Missing");
+
+        assertEquals(0, index.size());
+        assertTrue(index.fuzzy("alice", 1, 10).isEmpty());
+        assertTrue(index.containing("lic", 10).isEmpty());
+    }
+
+    @Test
+    public void testRebuildAfterManyRemovalsKeepsLiveNames() {
+        for (int i = 0; i < 5000; i++) {
+            index.add("Student" + i);
+        }
+        for (int i = 0; i < 5000; i++) {
+            if (i != 4321) index.remove("Student" + i);
+        }
+
+        assertEquals(1, index.size());
+        assertTrue(index.termCount() < 5000);
+        assertEquals(List.of("Student4321"), index.fuzzy("student4312", 1, 10));
+        assertEquals(List.of("Student4321"), index.containing("nt43", 10));
+    }
+
+    @Test
+    public void testMatchesBruteForceOnRandomNames() {
+        Random random = new Random(21);
+        Map<String, Integer> names = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            String name = word(random) + (random.nextBoolean() ? " " + word(random) : "");
+            names.merge(name, 1, Integer::sum);
+            index.add(name);
+            if (random.nextInt(4) == 0) {
+                String victim = names.keySet().iterator().next();
+                if (names.merge(victim, -1, Integer::sum) == 0) names.remove(victim);
+                index.remove(victim);
+            }
+        }
+        for (int q = 0; q < 200; q++) {
+            String query = word(random);
+            int maxEdits = random.nextInt(3);
+            Set<String> expected = new HashSet<>();
+            Set<String> containing = new HashSet<>();
+            for (String name : names.keySet()) {
+                for (String term : name.toLowerCase(Locale.ROOT).split(" ")) {
+                    if (NameSearchIndex.distance(query, term, maxEdits) <= maxEdits) expected.add(name);
+                    if (term.contains(query)) containing.add(name);
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.fuzzy(query, maxEdits, Integer.MAX_VALUE)), query);
+            assertEquals(containing, new HashSet<>(index.containing(query, Integer.MAX_VALUE)), query);
+        }
+    }
+
+    private static String word(Random random) {
+        int length = 1 + random.nextInt(6);
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            b.append((char) ('a' + random.nextInt(4)));
+        }
+        return b.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedStudentServiceTest {
+
+    private ShardedStudentService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new ShardedStudentService(4);
+    }
+
+    @Test
+    public void testPointOperationsRouteToOwningShard() {
+        Student alice = service.addStudent("Alice", 22);
+        Student bob = service.addStudent("Bob", 23);
+
+        assertEquals(1, alice.getId());
+        assertEquals(2, bob.getId());
+        int shard = service.shardIndex(alice.getId());
+        assertTrue(service.shard(shard).findById(1).isPresent());
+        assertTrue(service.updateStudent(1, "Alicia", 23));
+        assertEquals("Alicia", service.findById(1).get().getName());
+        assertTrue(service.deleteStudent(2));
+        assertFalse(service.findById(2).isPresent());
+        assertFalse(service.deleteStudent(2));
+    }
+
+    @Test
+    public void testStudentsSpreadAcrossShards() {
+        for (int i = 0; i < 4_000; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+
+        for (int shard = 0; shard < service.shardCount(); shard++) {
+            int size = service.shard(shard).getAllStudents().size();
+            assertTrue(size > 800 && size < 1_200, "shard " + shard + " holds " + size);
+        }
+    }
+
+    @Test
+    public void testGetAllStudentsMergesInIdOrder() {
+        for (int i = 1; i <= 500; i++) {
+            service.addStudent("Student" + i, 20 + i % 7);
+        }
+        service.deleteStudent(10);
+
+        List<Student> students = service.getAllStudents();
+
+        assertEquals(499, students.size());
+        for (int i = 1; i < students.size(); i++) {
+            assertTrue(students.get(i - 1).getId() < students.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testQueriesFanOut() {
+        service.addStudent("John", 30);
+        service.addStudent("Joanna", 21);
+        service.addStudent("Bob", 21);
+        service.addStudent("Jo", 25);
+
+        List<Student> byAge = service.findByAgeRange(21, 25);
+        List<Student> byName = service.findByNamePrefix("Jo");
+
+        assertEquals(List.of(2, 3, 4), byAge.stream().map(Student::getId).toList());
+        assertEquals(List.of("Jo", "Joanna", "John"), byName.stream().map(Student::getName).toList());
+    }
+
+    @Test
+    public void testAggregateCombinesShards() {
+        for (int i = 0; i < 100; i++) {
+            service.addStudent("Student" + i, i % 2 == 0 ? 20 : 30);
+        }
+
+        assertEquals(100L, service.aggregate(StudentQuery.all(), StudentQuery.count()));
+        assertEquals(25.0, service.aggregate(StudentQuery.all(), StudentQuery.averageAge()).getAsDouble(), 1e-9);
+        assertEquals(50L, service.aggregate(StudentQuery.ageBetween(30, 30), StudentQuery.count()));
+    }
+
+    @Test
+    public void testConcurrentAddsKeepIdsUnique() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    service.addStudent("Student", 20);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<Student> students = service.getAllStudents();
+
+        assertEquals(4_000, students.size());
+        assertEquals(4_000, students.get(students.size() - 1).getId());
+    }
+
+    @Test
+    public void testReopenFromLogs(@TempDir Path dir) throws IOException {
+        try (ShardedStudentService durable = new ShardedStudentService(dir, 3)) {
+            for (int i = 0; i < 20; i++) {
+                durable.addStudent("Student" + i, 20);
+            }
+            durable.deleteStudent(20);
+        }
+
+        try (ShardedStudentService reopened = new ShardedStudentService(dir, 3)) {
+            assertEquals(19, reopened.getAllStudents().size());
+            assertEquals(21, reopened.addStudent("Next", 20).getId());
+        }
+        assertThrows(IOException.class, () -> new ShardedStudentService(dir, 4));
+    }
+
+    @Test
+    public void testRejectsInvalidShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardedStudentService(0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SortedLongSetTest {
+
+    private SortedLongSet set;
+
+    @BeforeEach
+    public void setUp() {
+        set = new SortedLongSet();
+    }
+
+    @Test
+    public void testAddRejectsDuplicates() {
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testRemoveMissing() {
+        set.add(1);
+
+        assertFalse(set.remove(2));
+        assertTrue(set.remove(1));
+        assertEquals(0, set.size());
+    }
+
+    @Test
+    public void testRangeOnEmptySet() {
+        List<Long> values = collect(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        assertTrue(values.isEmpty());
+    }
+
+    @Test
+    public void testRangeIsInclusiveAndOrdered() {
+        for (long v = 100; v >= 1; v--) {
+            set.add(v * 10);
+        }
+
+        assertEquals(List.of(200L, 210L, 220L), collect(200, 220));
+        assertEquals(List.of(10L), collect(Long.MIN_VALUE, 15));
+        assertTrue(collect(11, 19).isEmpty());
+        assertTrue(collect(30, 20).isEmpty());
+    }
+
+    @Test
+    public void testRandomOperationsMatchTreeSet() {
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(20_000) - 10_000;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertEquals(new ArrayList<>(expected), collect(Long.MIN_VALUE, Long.MAX_VALUE));
+        assertEquals(new ArrayList<>(expected.subSet(-500L, true, 750L, true)), collect(-500, 750));
+    }
+
+    private List<Long> collect(long from, long to) {
+        List<Long> values = new ArrayList<>();
+        set.forEachInRange(from, to, values::add);
+        return values;
+    }
+}
@@ -0,0 +1,189 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentChangeStreamTest {
+
+    private StudentChangeStream stream;
+
+    @BeforeEach
+    public void setUp() {
+        stream = new StudentChangeStream(8);
+    }
+
+    @Test
+    public void testPollDeliversInOrderInBatches() {
+        StudentChangeStream.Subscription subscription = stream.subscribe();
+        for (int id = 1; id <= 5; id++) {
+            stream.publish(StudentChange.Type.ADDED, id, "Student" + id, 20);
+        }
+        List<StudentChange> received = new ArrayList<>();
+
+        assertEquals(3, subscription.poll(3, received::add));
+        assertEquals(2, subscription.lag());
+        assertEquals(2, subscription.poll(10, received::add));
+        assertEquals(0, subscription.poll(10, received::add));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1, received.get(i).sequence());
+            assertEquals(i + 1, received.get(i).id());
+        }
+    }
+
+    @Test
+    public void testSubscribeStartsAtTail() {
+        stream.publish(StudentChange.Type.ADDED, 1, "Old", 20);
+        StudentChangeStream.Subscription subscription = stream.subscribe();
+        stream.publish(StudentChange.Type.DELETED, 1, null, 0);
+        List<StudentChange> received = new ArrayList<>();
+
+        subscription.poll(10, received::add);
+
+        assertEquals(1, received.size());
+        assertEquals(StudentChange.Type.DELETED, received.get(0).type());
+        assertEquals(2, received.get(0).sequence());
+    }
+
+    @Test
+    public void testSlowSubscriberIsOverrunWithoutBlockingProducer() {
+        StudentChangeStream.Subscription subscription = stream.subscribe();
+        for (int id = 1; id <= 20; id++) {
+            stream.publish(StudentChange.Type.ADDED, id, "Student" + id, 20);
+        }
+        List<StudentChange> received = new ArrayList<>();
+
+        StudentChangeStream.OverrunException e = assertThrows(StudentChangeStream.OverrunException.class,
+                () -> subscription.poll(10, received::add));
+
+        assertEquals(1, e.firstMissed());
+        assertEquals(13, e.lastMissed());
+        assertEquals(7, subscription.poll(10, received::add));
+        assertEquals(14, received.get(0).sequence());
+        assertEquals(20, received.get(6).sequence());
+    }
+
+    @Test
+    public void testSubscribeFromReplaysRetainedChanges() {
+        StudentChangeStream.Subscription retained = stream.subscribe();
+        for (int id = 1; id <= 4; id++) {
+            stream.publish(StudentChange.Type.ADDED, id, "Student" + id, 20);
+        }
+        List<StudentChange> received = new ArrayList<>();
+
+        stream.subscribeFrom(3).poll(10, received::add);
+
+        assertEquals(2, received.size());
+        assertEquals(3, received.get(0).sequence());
+        assertEquals(2, stream.subscribers());
+        retained.close();
+        retained.close();
+        assertEquals(1, stream.subscribers());
+    }
+
+    @Test
+    public void testChangesAreNotRetainedWithoutSubscribers() {
+        for (int id = 1; id <= 4; id++) {
+            stream.publish(StudentChange.Type.ADDED, id, "Student" + id, 20);
+        }
+        StudentChangeStream.Subscription late = stream.subscribeFrom(2);
+        stream.publish(StudentChange.Type.ADDED, 5, "Student5", 20);
+        List<StudentChange> received = new ArrayList<>();
+
+        StudentChangeStream.OverrunException e = assertThrows(StudentChangeStream.OverrunException.class,
+                () -> late.poll(10, received::add));
+
+        assertEquals(2, e.firstMissed());
+        assertEquals(4, e.lastMissed());
+        assertEquals(1, late.poll(10, received::add));
+        assertEquals(5, received.get(0).sequence());
+        assertEquals(5, stream.lastSequence());
+    }
+
+    @Test
+    public void testClosingLastSubscriptionDropsRetainedChanges() {
+        StudentChangeStream.Subscription subscription = stream.subscribe();
+        stream.publish(StudentChange.Type.ADDED, 1, "Alice", 20);
+        subscription.close();
+
+        assertThrows(IllegalStateException.class, () -> subscription.poll(10, c -> { }));
+        assertThrows(StudentChangeStream.OverrunException.class, () -> stream.subscribeFrom(1).poll(10, c -> { }));
+    }
+
+    @Test
+    public void testTimedPollWaitsForProducer() throws Exception {
+        StudentChangeStream.Subscription subscription = stream.subscribe();
+        List<StudentChange> received = new ArrayList<>();
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                return;
+            }
+            stream.publish(StudentChange.Type.ADDED, 1, "Late", 20);
+        });
+        producer.start();
+
+        int n = subscription.poll(10, 5, TimeUnit.SECONDS, received::add);
+        producer.join();
+
+        assertEquals(1, n);
+        assertEquals("Late", received.get(0).name());
+        assertEquals(0, subscription.poll(10, 1, TimeUnit.MILLISECONDS, received::add));
+    }
+
+    @Test
+    public void testConcurrentTailingSeesEveryChangeOnce() throws Exception {
+        StudentChangeStream large = new StudentChangeStream(1 << 16);
+        StudentChangeStream.Subscription subscription = large.subscribe();
+        long[] next = {1};
+        Thread consumer = new Thread(() -> {
+            try {
+                while (next[0] <= 50_000) {
+                    subscription.poll(256, 1, TimeUnit.SECONDS, c -> assertEquals(next[0]++, c.sequence()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        for (int id = 1; id <= 50_000; id++) {
+            large.publish(StudentChange.Type.ADDED, id, "Student", 20);
+        }
+        consumer.join(10_000);
+
+        assertEquals(50_001, next[0]);
+    }
+
+    @Test
+    public void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StudentChangeStream(6));
+    }
+
+    @Test
+    public void testServicePublishesMutations() {
+        StudentService service = new StudentService();
+        StudentChangeStream.Subscription subscription = service.changes().subscribe();
+        service.addStudent("Alice", 22);
+        service.updateStudent(1, "Alicia", 23);
+        service.updateStudent(99, "Nobody", 1);
+        service.addStudents(List.of(new NewStudent("Bob", 30), new NewStudent("Carol", 31)));
+        service.deleteStudent(2);
+        List<StudentChange> received = new ArrayList<>();
+
+        subscription.poll(100, received::add);
+
+        assertEquals(List.of(
+                new StudentChange(1, StudentChange.Type.ADDED, 1, "Alice", 22),
+                new StudentChange(2, StudentChange.Type.UPDATED, 1, "Alicia", 23),
+                new StudentChange(3, StudentChange.Type.ADDED, 2, "Bob", 30),
+                new StudentChange(4, StudentChange.Type.ADDED, 3, "Carol", 31),
+                new StudentChange(5, StudentChange.Type.DELETED, 2, null, 0)), received);
+    }
+}
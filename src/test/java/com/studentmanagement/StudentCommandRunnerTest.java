@@ -0,0 +1,146 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentCommandRunnerTest {
+
+    private StudentService service;
+    private StringWriter out;
+    private StudentCommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        out = new StringWriter();
+        runner = new StudentCommandRunner(service, out);
+    }
+
+    private String run(String script) throws IOException {
+        runner.run(new StringReader(script));
+        return out.toString();
+    }
+
+    @Test
+    public void testBasicCommands() throws IOException {
+        String output = run("add,Alice,22\nadd,Bob,23\nupdate,1,Alicia,30\ndelete,2\nfind,1\nlist\n");
+
+        assertEquals("added,1\nadded,2\nupdated,1\ndeleted,2\n1,Alicia,30\n1,Alicia,30\n", output);
+        assertEquals(6, runner.commands());
+        assertEquals(0, runner.errors());
+    }
+
+    @Test
+    public void testCommentsBlankLinesAndCrLf() throws IOException {
+        String output = run("# roster\r\n\r\n   \r\nadd, Alice , 22\r\nADD,Bob,23");
+
+        assertEquals("added,1\nadded,2\n", output);
+        assertEquals("Alice", service.findById(1).get().getName());
+        assertEquals(2, runner.commands());
+    }
+
+    @Test
+    public void testQuotedNames() throws IOException {
+        String output = run("add,\"O'Brien, Sean\",30\nadd,\"Say \"\"hi\"\"\",41\nlist\n");
+
+        assertEquals("O'Brien, Sean", service.findById(1).get().getName());
+        assertEquals("Say \"hi\"", service.findById(2).get().getName());
+        assertTrue(output.endsWith("1,\"O'Brien, Sean\",30\n2,\"Say \"\"hi\"\"\",41\n"));
+    }
+
+    @Test
+    public void testErrorsAreReportedAndProcessingContinues() throws IOException {
+        String output = run("add,Alice,abc\nadd,Alice\nfrobnicate\nupdate,9,Nobody,1\nfind,99999999999\nadd,\"Open,1\nadd,Bob,23\n");
+
+        String[] lines = output.split("\n");
+        assertEquals(7, lines.length);
+        assertEquals("error,1,\"expected add,<name>,<age>\"", lines[0]);
+        assertEquals("error,3,unknown command", lines[2]);
+        assertEquals("error,4,student 9 not found", lines[3]);
+        assertTrue(lines[5].startsWith("error,6,"));
+        assertEquals("added,1", lines[6]);
+        assertEquals(6, runner.errors());
+        assertEquals(7, runner.commands());
+    }
+
+    @Test
+    public void testTransactionBlock() throws IOException {
+        service.addStudent("Existing", 20);
+
+        String output = run("begin\nadd,Alice,22\nupdate,1,Changed,21\nadd,Bob,23\ncommit\n");
+
+        assertEquals("added,2\nadded,3\ncommitted,3\n", output);
+        assertEquals("Changed", service.findById(1).get().getName());
+    }
+
+    @Test
+    public void testFailedTransactionChangesNothing() throws IOException {
+        String output = run("begin\nadd,Alice,22\ndelete,7\ncommit\nbegin\nadd,Bob,23\n");
+
+        assertTrue(output.startsWith("error,4,"));
+        assertTrue(output.endsWith("error,5,transaction was never committed\n"));
+        assertTrue(service.getAllStudents().isEmpty());
+        assertEquals(2, runner.errors());
+    }
+
+    @Test
+    public void testListPagesWithoutHoldingTheReadLock() throws Exception {
+        for (int i = 0; i < 2_500; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        AtomicInteger rows = new AtomicInteger();
+        Writer blocking = new Writer() {
+            @Override
+            public void write(char[] chars, int off, int len) throws IOException {
+                if (rows.incrementAndGet() != 1_500) return;
+                try {
+                    CompletableFuture.runAsync(() -> service.addStudent("Late", 30)).get(5, TimeUnit.SECONDS);
+                } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                    throw new IOException(e);
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        StudentCommandRunner listing = new StudentCommandRunner(service, blocking);
+        listing.run(new StringReader("list\n"));
+
+        assertEquals(0, listing.errors());
+        assertEquals(2_501, rows.get());
+    }
+
+    @Test
+    public void testLongLinesAndManyCommands() throws IOException {
+        StringBuilder script = new StringBuilder();
+        String longName = "x".repeat(100_000);
+        script.append("add,").append(longName).append(",20\n");
+        for (int i = 0; i < 50_000; i++) {
+            script.append("add,Student").append(i).append(',').append(i % 60).append('\n');
+        }
+
+        run(script.toString());
+
+        assertEquals(50_001, service.getAllStudents().size());
+        assertEquals(longName, service.findById(1).get().getName());
+        assertEquals(0, runner.errors());
+    }
+}
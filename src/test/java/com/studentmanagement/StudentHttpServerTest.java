@@ -0,0 +1,111 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentHttpServerTest {
+
+    private StudentService service;
+    private StudentHttpServer server;
+    private HttpClient client;
+    private URI base;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        service = new StudentService();
+        server = new StudentHttpServer(service, new InetSocketAddress("127.0.0.1", 0));
+        server.start();
+        client = HttpClient.newHttpClient();
+        base = URI.create("http://127.0.0.1:" + server.port());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+        service.close();
+    }
+
+    @Test
+    public void testAddAndGetStudent() throws Exception {
+        HttpResponse<String> created = send("POST", "/students", "{\"name\":\"Alice \\\"A\\\"\",\"age\":22}");
+
+        assertEquals(201, created.statusCode());
+        assertEquals("/students/1", created.headers().firstValue("Location").orElse(null));
+        assertEquals("{\"id\":1,\"name\":\"Alice \\\"A\\\"\",\"age\":22}", created.body());
+        assertEquals("Alice \"A\"", service.findById(1).get().getName());
+
+        HttpResponse<String> fetched = send("GET", "/students/1", null);
+
+        assertEquals(200, fetched.statusCode());
+        assertEquals(created.body(), fetched.body());
+    }
+
+    @Test
+    public void testListPagesStudents() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            service.addStudent("Student" + i, 20 + i);
+        }
+
+        HttpResponse<String> page = send("GET", "/students?offset=3&limit=10", null);
+
+        assertEquals(200, page.statusCode());
+        assertEquals("[{\"id\":4,\"name\":\"Student4\",\"age\":24},{\"id\":5,\"name\":\"Student5\",\"age\":25}]", page.body());
+        assertEquals(400, send("GET", "/students?limit=-1", null).statusCode());
+    }
+
+    @Test
+    public void testUpdateAndDeleteStudent() throws Exception {
+        service.addStudent("Bob", 23);
+
+        HttpResponse<String> updated = send("PUT", "/students/1", "{\"age\":30,\"name\":\"Robert\"}");
+
+        assertEquals(200, updated.statusCode());
+        assertEquals("Robert", service.findById(1).get().getName());
+        assertEquals(404, send("PUT", "/students/9", "{\"name\":\"X\",\"age\":1}").statusCode());
+        assertEquals(204, send("DELETE", "/students/1", null).statusCode());
+        assertEquals(404, send("DELETE", "/students/1", null).statusCode());
+        assertEquals(404, send("GET", "/students/1", null).statusCode());
+    }
+
+    @Test
+    public void testRejectsBadRequests() throws Exception {
+        assertEquals(400, send("POST", "/students", "{\"name\":\"Alice\"}").statusCode());
+        assertEquals(400, send("POST", "/students", "not json").statusCode());
+        assertEquals(400, send("GET", "/students/abc", null).statusCode());
+        assertEquals(405, send("PATCH", "/students", "{}").statusCode());
+        assertTrue(service.getAllStudents().isEmpty());
+    }
+
+    @Test
+    public void testLoadClientReportsLatencies() {
+        StudentLoadClient loadClient = new StudentLoadClient(base);
+        StudentLoadClient.Report report;
+        try {
+            report = loadClient.run(16, 10);
+        } finally {
+            loadClient.close();
+        }
+
+        assertEquals(0, report.errors());
+        assertEquals(160, report.requests());
+        assertTrue(report.p50Nanos() > 0);
+        assertTrue(report.p50Nanos() <= report.p99Nanos());
+        assertTrue(report.p99Nanos() <= report.p999Nanos());
+        assertTrue(service.getAllStudents().size() >= 1_000);
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest request = HttpRequest.newBuilder(base.resolve(path)).method(method, publisher).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
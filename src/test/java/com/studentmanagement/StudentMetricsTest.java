@@ -0,0 +1,102 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentMetricsTest {
+
+    private StudentService service;
+    private StudentMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        metrics = service.metrics();
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        service.addStudent("Alice", 22);
+        service.findById(1);
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getAdd().count());
+        assertEquals(0, metrics.getFind().count());
+    }
+
+    @Test
+    public void testRecordsOperationsAndMisses() {
+        metrics.setEnabled(true);
+
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+        service.updateStudent(1, "Alicia", 23);
+        service.updateStudent(99, "Nobody", 1);
+        service.deleteStudent(2);
+        service.findById(1);
+        service.findById(2);
+
+        assertEquals(2, metrics.getAdd().count());
+        assertEquals(0, metrics.getAdd().misses());
+        assertEquals(2, metrics.getUpdate().count());
+        assertEquals(1, metrics.getUpdate().misses());
+        assertEquals(1, metrics.getDelete().count());
+        assertEquals(2, metrics.getFind().count());
+        assertEquals(1, metrics.getFind().misses());
+        assertTrue(metrics.getFind().maxMicros() > 0);
+        assertTrue(metrics.getFind().p50Micros() <= metrics.getFind().p999Micros());
+        assertEquals(1L, metrics.getGauges().get("students"));
+        assertEquals(3L, metrics.getGauges().get("nextId"));
+    }
+
+    @Test
+    public void testDumpListsEveryOperation() {
+        metrics.setEnabled(true);
+        service.addStudent("Alice", 22);
+
+        String dump = metrics.dump();
+
+        assertTrue(dump.startsWith("metrics enabled"));
+        assertTrue(dump.contains("add "));
+        assertTrue(dump.contains("update "));
+        assertTrue(dump.contains("delete "));
+        assertTrue(dump.contains("find "));
+        assertTrue(dump.contains("students"));
+    }
+
+    @Test
+    public void testReset() {
+        metrics.setEnabled(true);
+        service.addStudent("Alice", 22);
+
+        metrics.reset();
+
+        assertEquals(0, metrics.getAdd().count());
+    }
+
+    @Test
+    public void testExposedThroughJmx() throws Exception {
+        metrics.setEnabled(true);
+        service.addStudent("Alice", 22);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = metrics.registerMBean("test");
+        try {
+            CompositeData add = (CompositeData) server.getAttribute(name, "Add");
+            assertEquals(1L, add.get("count"));
+            assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+            server.setAttribute(name, new Attribute("Enabled", false));
+            assertFalse(metrics.isEnabled());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentQueryTest {
+
+    private static final int ROWS = 100_000;
+
+    @TempDir
+    Path dir;
+
+    private static StudentService populate(StudentService service) {
+        for (int i = 0; i < ROWS; i++) {
+            service.addStudent((i % 3 == 0 ? "Ann" : "Bob") + i, 18 + i % 10);
+        }
+        for (int id = 1; id <= ROWS; id += 10) {
+            service.deleteStudent(id);
+        }
+        return service;
+    }
+
+    private static void assertAggregates(StudentService service) {
+        long expectedCount = service.getAllStudents().size();
+        double expectedAverage = service.getAllStudents().stream().mapToInt(Student::getAge).average().orElseThrow();
+        long expectedAnn = service.getAllStudents().stream().filter(s -> s.getName().startsWith("Ann")).count();
+        long expectedAdults = service.getAllStudents().stream().filter(s -> s.getAge() >= 21 && s.getAge() <= 23).count();
+        long expectedBob5 = service.getAllStudents().stream().filter(s -> s.getName().equals("Bob5")).count();
+
+        assertEquals(expectedCount, service.aggregate(StudentQuery.all(), StudentQuery.count()));
+        assertEquals(expectedAverage, service.aggregate(StudentQuery.all(), StudentQuery.averageAge()).getAsDouble(), 1e-9);
+        assertEquals(expectedAnn, service.aggregate(StudentQuery.nameStartsWith("Ann"), StudentQuery.count()));
+        assertEquals(expectedAdults, service.aggregate(StudentQuery.ageBetween(21, 23), StudentQuery.count()));
+        assertEquals(expectedBob5, service.aggregate(StudentQuery.nameEquals("Bob5"), StudentQuery.count()));
+        assertEquals(0L, service.aggregate(StudentQuery.nameEquals("Nobody"), StudentQuery.count()));
+    }
+
+    @Test
+    public void testHeapRepository() {
+        assertAggregates(populate(new StudentService()));
+    }
+
+    @Test
+    public void testColumnarRepository() {
+        assertAggregates(populate(new StudentService(new ColumnarStudentRepository())));
+    }
+
+    @Test
+    public void testMappedRepositoryWithOverlay() throws IOException {
+        Path file = dir.resolve("students.snap");
+        populate(new StudentService()).writeSnapshot(file);
+        try (StudentService service = StudentService.openSnapshot(file)) {
+            service.updateStudent(2, "Ann-Marie", 99);
+            service.deleteStudent(3);
+            service.addStudent("Annette", 40);
+
+            assertAggregates(service);
+            assertEquals(1L, service.aggregate(StudentQuery.ageBetween(99, 99), StudentQuery.count()));
+        }
+    }
+
+    @Test
+    public void testAgeHistogram() {
+        StudentService service = new StudentService();
+        service.addStudent("A", 18);
+        service.addStudent("B", 19);
+        service.addStudent("C", 25);
+        service.addStudent("D", 41);
+
+        SortedMap<Integer, Long> histogram = service.aggregate(StudentQuery.all(), StudentQuery.ageHistogram(10));
+
+        assertEquals(Map.of(10, 2L, 20, 1L, 40, 1L), histogram);
+        assertThrows(IllegalArgumentException.class, () -> StudentQuery.ageHistogram(0));
+    }
+
+    @Test
+    public void testAgeHistogramAcrossChunks() {
+        StudentService service = populate(new StudentService(new ColumnarStudentRepository()));
+
+        SortedMap<Integer, Long> histogram = service.aggregate(StudentQuery.all(), StudentQuery.ageHistogram(1));
+
+        assertEquals(9, histogram.size());
+        assertFalse(histogram.containsKey(18));
+        assertEquals(service.getAllStudents().stream().filter(s -> s.getAge() == 19).count(), histogram.get(19));
+    }
+
+    @Test
+    public void testCountByNamePrefix() {
+        StudentService service = new StudentService();
+        service.addStudent("Alice", 20);
+        service.addStudent("Alan", 21);
+        service.addStudent("Bob", 22);
+        service.addStudent("B", 23);
+
+        SortedMap<String, Long> counts = service.aggregate(StudentQuery.all(), StudentQuery.countByNamePrefix(2));
+
+        assertEquals(Map.of("Al", 2L, "Bo", 1L, "B", 1L), counts);
+    }
+
+    @Test
+    public void testEmptyRoster() {
+        StudentService service = new StudentService();
+
+        OptionalDouble average = service.aggregate(StudentQuery.all(), StudentQuery.averageAge());
+
+        assertFalse(average.isPresent());
+        assertEquals(0L, service.aggregate(StudentQuery.all(), StudentQuery.count()));
+    }
+
+    @Test
+    public void testNonAsciiPrefix() {
+        StudentService service = new StudentService(new ColumnarStudentRepository());
+        service.addStudent("María", 20);
+        service.addStudent("Marco", 21);
+
+        assertEquals(1L, service.aggregate(StudentQuery.nameStartsWith("Marí"), StudentQuery.count()));
+        assertEquals(2L, service.aggregate(StudentQuery.nameStartsWith("Mar"), StudentQuery.count()));
+    }
+}
@@ -0,0 +1,237 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentReplicationTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private StudentService service;
+    private StudentReplicationLeader leader;
+    private StudentReplica replica;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        service = new StudentService();
+        leader = new StudentReplicationLeader(service, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        leader.start();
+        replica = new StudentReplica(new InetSocketAddress(InetAddress.getLoopbackAddress(), leader.port()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replica.close();
+        leader.close();
+        service.close();
+    }
+
+    @Test
+    public void testFollowerLoadsSnapshotThenStreamsChanges() throws InterruptedException {
+        for (int i = 0; i < 1_000; i++) {
+            service.addStudent("Student" + i, 18 + i % 10);
+        }
+        replica.start();
+        assertTrue(replica.awaitSequence(service.changes().lastSequence(), TIMEOUT));
+        assertEquals(service.getAllStudents(), replica.getAllStudents());
+
+        service.updateStudent(1, "Renamed", 40);
+        service.deleteStudent(2);
+        StudentTransaction tx = service.transaction();
+        tx.add("Batch", 30);
+        tx.delete(3);
+        tx.commit();
+
+        assertTrue(replica.awaitSequence(service.changes().lastSequence(), TIMEOUT));
+        assertEquals(service.getAllStudents(), replica.getAllStudents());
+        assertEquals(new Student(1, "Renamed", 40), replica.findById(1).orElseThrow());
+        assertTrue(replica.findById(2).isEmpty());
+        assertEquals(1, replica.snapshots());
+        assertEquals(0, replica.lag());
+        Map<String, Long> gauges = replica.metrics().getGauges();
+        assertEquals(0L, gauges.get("replicationLag"));
+        assertEquals(999L, gauges.get("students"));
+        assertTrue(gauges.get("replicationBytes") > 0);
+        assertEquals(1L, service.metrics().getGauges().get("replicationFollowers"));
+    }
+
+    @Test
+    public void testFollowerResumesWithoutSnapshotAfterDisconnect() throws InterruptedException {
+        replica.start();
+        service.addStudent("Alice", 20);
+        assertTrue(replica.awaitSequence(1, TIMEOUT));
+
+        replica.disconnect();
+        service.addStudent("Bob", 21);
+        service.updateStudent(1, "Alicia", 22);
+
+        assertTrue(replica.awaitSequence(service.changes().lastSequence(), TIMEOUT));
+        assertEquals(service.getAllStudents(), replica.getAllStudents());
+        assertEquals(1, replica.snapshots());
+        assertEquals(1, leader.snapshotsSent());
+    }
+
+    @Test
+    public void testLeaderSendsSnapshotWhenChangesAreNoLongerBuffered() throws IOException {
+        service.addStudent("Alice", 20);
+        for (int i = 0; i < service.changes().capacity() + 10; i++) {
+            service.updateStudent(1, "Alice", 20 + i % 50);
+        }
+        long last = service.changes().lastSequence();
+
+        try (Socket socket = connect()) {
+            DataInputStream in = handshake(socket, leader.epoch(), 2);
+            assertEquals(StudentReplicationLeader.SNAPSHOT, in.readByte());
+            assertEquals(leader.epoch(), in.readLong());
+            assertEquals(last, in.readLong());
+        }
+        try (Socket socket = connect()) {
+            DataInputStream in = handshake(socket, 0, last + 1);
+            assertEquals(StudentReplicationLeader.SNAPSHOT, in.readByte());
+        }
+        try (Socket socket = connect()) {
+            DataInputStream in = handshake(socket, leader.epoch(), last + 1);
+            assertEquals(StudentReplicationLeader.HEARTBEAT, in.readByte());
+            assertEquals(last, in.readLong());
+        }
+    }
+
+    @Test
+    public void testPromotedReplicaContinuesIds() throws InterruptedException {
+        service.addStudent("Alice", 20);
+        service.addStudent("Bob", 21);
+        service.addStudent("Carol", 22);
+        service.deleteStudent(3);
+        replica.start();
+        assertTrue(replica.awaitSequence(service.changes().lastSequence(), TIMEOUT));
+
+        StudentService promoted = replica.promote();
+        Student added = promoted.addStudent("Dave", 23);
+
+        assertEquals(4, added.getId());
+        assertEquals(3, promoted.getAllStudents().size());
+        assertTrue(service.findById(4).isEmpty());
+    }
+
+    @Test
+    public void testFollowerReplicatesLeaderInAnotherJvm() throws IOException, InterruptedException {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                StudentManagementApp.class.getName(), "--replicate", "0", "--batch", "-")
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            BufferedReader err = new BufferedReader(new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8));
+            String banner = err.readLine();
+            assertNotNull(banner);
+            assertTrue(banner.startsWith("Replicating on port "), banner);
+            int port = Integer.parseInt(banner.substring("Replicating on port ".length()));
+
+            try (StudentReplica remote = new StudentReplica(new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+                remote.start();
+                Writer commands = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8);
+                commands.write("add,Alice,20\nadd,Bob,21\nupdate,1,Alicia,22\ndelete,2\n");
+                commands.flush();
+
+                assertTrue(remote.awaitSequence(4, TIMEOUT));
+                assertEquals(List.of(new Student(1, "Alicia", 22)), remote.getAllStudents());
+                assertEquals(0, remote.lag());
+                commands.close();
+            }
+            assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue());
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    @Test
+    public void testResentFrameIsNotAppliedTwice() throws IOException, InterruptedException {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             StudentReplica follower = new StudentReplica(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()))) {
+            server.setSoTimeout(10_000);
+            follower.start();
+            try (Socket socket = server.accept()) {
+                assertEquals(1, acceptHandshake(socket));
+                DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(socket.getOutputStream(), true));
+                out.writeByte(StudentReplicationLeader.SNAPSHOT);
+                out.writeLong(7);
+                out.writeLong(0);
+                out.writeInt(1);
+                out.writeInt(0);
+                writeChangesHeader(out, 2);
+                writeAdd(out, 1, "Alice", 20);
+                out.flush();
+            }
+            try (Socket socket = server.accept()) {
+                assertEquals(2, acceptHandshake(socket));
+                DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(socket.getOutputStream(), true));
+                writeChangesHeader(out, 2);
+                writeAdd(out, 1, "Alice", 20);
+                writeAdd(out, 2, "Bob", 21);
+                out.flush();
+                assertTrue(follower.awaitSequence(2, TIMEOUT));
+            }
+            assertEquals(List.of(new Student(1, "Alice", 20), new Student(2, "Bob", 21)), follower.getAllStudents());
+        }
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), leader.port());
+        socket.setSoTimeout(10_000);
+        return socket;
+    }
+
+    private static DataInputStream handshake(Socket socket, long epoch, long next) throws IOException {
+        DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+        out.writeInt(StudentReplicationLeader.MAGIC);
+        out.writeLong(epoch);
+        out.writeLong(next);
+        out.flush();
+        return new DataInputStream(new InflaterInputStream(socket.getInputStream()));
+    }
+
+    private static long acceptHandshake(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(socket.getInputStream());
+        assertEquals(StudentReplicationLeader.MAGIC, in.readInt());
+        in.readLong();
+        return in.readLong();
+    }
+
+    private static void writeChangesHeader(DataOutputStream out, int count) throws IOException {
+        out.writeByte(StudentReplicationLeader.CHANGES);
+        out.writeLong(count);
+        out.writeLong(1);
+        out.writeInt(count);
+    }
+
+    private static void writeAdd(DataOutputStream out, int id, String name, int age) throws IOException {
+        out.writeByte(StudentChange.Type.ADDED.ordinal());
+        out.writeInt(id);
+        out.writeInt(age);
+        StudentReplicationLeader.writeName(out, name);
+    }
+}
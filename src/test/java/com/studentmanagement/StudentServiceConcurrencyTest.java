@@ -0,0 +1,185 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 5_000;
+
+    private StudentService service;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentAddsAssignUniqueIds() throws Exception {
+        List<Future<List<Integer>>> results = runOnAllThreads(() -> {
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                ids.add(service.addStudent("Student", 20).getId());
+            }
+            return ids;
+        });
+
+        Set<Integer> ids = new HashSet<>();
+        for (Future<List<Integer>> result : results) {
+            ids.addAll(result.get());
+        }
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, ids.size());
+        assertEquals(THREADS * OPERATIONS_PER_THREAD, service.getAllStudents().size());
+        for (int id : ids) {
+            assertTrue(service.findById(id).isPresent());
+        }
+    }
+
+    @Test
+    public void testConcurrentMixedOperations() throws Exception {
+        List<Future<List<Integer>>> results = runOnAllThreads(() -> {
+            List<Integer> survivors = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                Student s = service.addStudent("Student", 20);
+                assertTrue(service.updateStudent(s.getId(), "Updated", 21));
+                if (i % 2 == 0) {
+                    assertTrue(service.deleteStudent(s.getId()));
+                    assertFalse(service.findById(s.getId()).isPresent());
+                } else {
+                    survivors.add(s.getId());
+                }
+            }
+            return survivors;
+        });
+
+        int expected = 0;
+        for (Future<List<Integer>> result : results) {
+            for (int id : result.get()) {
+                Student s = service.findById(id).orElseThrow();
+                assertEquals("Updated", s.getName());
+                assertEquals(21, s.getAge());
+                expected++;
+            }
+        }
+        assertEquals(expected, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testReadersSeeConsistentSnapshotsDuringWrites() throws Exception {
+        for (int i = 0; i < 1_000; i++) {
+            service.addStudent("Seed", 20);
+        }
+        CountDownLatch writersDone = new CountDownLatch(THREADS / 2);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            if (t % 2 == 0) {
+                results.add(executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                            Student s = service.addStudent("Writer", 30);
+                            service.deleteStudent(s.getId());
+                        }
+                        return true;
+                    } finally {
+                        writersDone.countDown();
+                    }
+                }));
+            } else {
+                results.add(executor.submit(() -> {
+                    while (writersDone.getCount() > 0) {
+                        List<Student> snapshot = service.getAllStudents();
+                        Set<Integer> seen = new HashSet<>();
+                        for (Student s : snapshot) {
+                            if (s == null || !seen.add(s.getId())) return false;
+                        }
+                        if (snapshot.size() < 1_000) return false;
+                        if (service.findById(1 + (int) (Math.random() * 1_000)).isEmpty()) return false;
+                    }
+                    return true;
+                }));
+            }
+        }
+
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get(60, TimeUnit.SECONDS));
+        }
+        assertEquals(1_000, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testConcurrentSearchesMatchSequentialResults() throws Exception {
+        Random random = new Random(7);
+        String[] queries = new String[64];
+        for (int i = 0; i < 4_000; i++) {
+            String first = word(random, 5 + random.nextInt(4));
+            String last = word(random, 6 + random.nextInt(4));
+            service.addStudent(first + " " + last, 20);
+            if (i < queries.length) queries[i] = first.substring(1) + " " + last;
+        }
+        List<List<Student>> similar = new ArrayList<>();
+        List<List<Student>> containing = new ArrayList<>();
+        for (String query : queries) {
+            similar.add(service.searchByName(query, 2, 20));
+            containing.add(service.findByNameContaining(query.substring(0, 3), 20));
+        }
+
+        List<Future<Boolean>> results = runOnAllThreads(() -> {
+            for (int i = 0; i < 200; i++) {
+                int q = (i * 7 + (int) Thread.currentThread().getId()) % queries.length;
+                if (!similar.get(q).equals(service.searchByName(queries[q], 2, 20))) return false;
+                if (!containing.get(q).equals(service.findByNameContaining(queries[q].substring(0, 3), 20))) return false;
+            }
+            return true;
+        });
+
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+    }
+
+    private static String word(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(6));
+        }
+        return new String(chars);
+    }
+
+    private <T> List<Future<T>> runOnAllThreads(Callable<T> task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        return results;
+    }
+}
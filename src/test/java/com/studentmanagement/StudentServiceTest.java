@@ -3,8 +3,11 @@ package com.studentmanagement;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -240,5 +243,353 @@ public class StudentServiceTest {
         Student remaining = service.findById(1).get();
         assertEquals("Alice Updated", remaining.getName());
     }
-}
 
+    @Test
+    public void testGetAllStudentsKeepsInsertionOrderAfterDeletes() {
+        for (int i = 1; i <= 200; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        for (int id = 1; id <= 200; id++) {
+            if (id % 3 != 0) {
+                assertTrue(service.deleteStudent(id));
+            }
+        }
+
+        List<Student> students = service.getAllStudents();
+
+        assertEquals(66, students.size());
+        for (int i = 0; i < students.size(); i++) {
+            assertEquals((i + 1) * 3, students.get(i).getId());
+        }
+        assertEquals("Student99", service.findById(99).get().getName());
+        assertFalse(service.findById(100).isPresent());
+    }
+
+    @Test
+    public void testUpdateAfterCompaction() {
+        for (int i = 1; i <= 100; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        for (int id = 1; id <= 90; id++) {
+            service.deleteStudent(id);
+        }
+
+        assertTrue(service.updateStudent(95, "Moved", 40));
+        assertEquals("Moved", service.findById(95).get().getName());
+        assertEquals(10, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testCompactReclaimsDeletedSlots() {
+        HeapStudentRepository storage = new HeapStudentRepository();
+        StudentService heap = new StudentService(storage);
+        for (int i = 1; i <= 100_000; i++) {
+            heap.addStudent("Student" + i, 20);
+        }
+        for (int id = 1; id <= 100_000; id++) {
+            if (id % 10 != 0) heap.deleteStudent(id);
+        }
+
+        heap.compact();
+
+        assertEquals(10_000, storage.rowSlots());
+        assertEquals(10_000, storage.size());
+        assertEquals("Student50", heap.findById(50).get().getName());
+        assertTrue(heap.updateStudent(99_990, "Moved", 40));
+        assertEquals("Moved", heap.findByNamePrefix("Moved").get(0).getName());
+    }
+
+    @Test
+    public void testBackgroundCompactionFinishesPendingPass() throws InterruptedException {
+        HeapStudentRepository storage = new HeapStudentRepository();
+        try (StudentService heap = new StudentService(storage)) {
+            for (int i = 1; i <= 10_000; i++) {
+                heap.addStudent("Student" + i, 20);
+            }
+            for (int id = 1; id <= 2_600; id++) {
+                heap.deleteStudent(id);
+            }
+            assertTrue(storage.rowSlots() > 7_400);
+
+            heap.startBackgroundCompaction(Duration.ofMillis(5));
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (storage.rowSlots() > 7_400 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertEquals(7_400, storage.rowSlots());
+            assertThrows(IllegalStateException.class, () -> heap.startBackgroundCompaction(Duration.ofMillis(5)));
+        }
+    }
+
+    @Test
+    public void testFindByAgeRange() {
+        service.addStudent("Alice", 17);
+        service.addStudent("Bob", 18);
+        service.addStudent("Charlie", 25);
+        service.addStudent("Diana", 26);
+        service.addStudent("Edward", 21);
+
+        List<Student> students = service.findByAgeRange(18, 25);
+
+        assertEquals(3, students.size());
+        assertEquals("Bob", students.get(0).getName());
+        assertEquals("Edward", students.get(1).getName());
+        assertEquals("Charlie", students.get(2).getName());
+        assertTrue(service.findByAgeRange(30, 40).isEmpty());
+    }
+
+    @Test
+    public void testFindByNamePrefix() {
+        service.addStudent("John", 20);
+        service.addStudent("Joanna", 21);
+        service.addStudent("Bob", 22);
+
+        List<Student> students = service.findByNamePrefix("Jo");
+
+        assertEquals(2, students.size());
+        assertEquals("Joanna", students.get(0).getName());
+        assertEquals("John", students.get(1).getName());
+    }
+
+    @Test
+    public void testIndexesFollowUpdatesAndDeletes() {
+        service.addStudent("John", 20);
+        service.addStudent("Joanna", 21);
+        assertEquals(2, service.findByNamePrefix("Jo").size());
+
+        service.updateStudent(1, "Bob", 40);
+        service.deleteStudent(2);
+        service.addStudent("Joe", 22);
+
+        assertEquals(1, service.findByNamePrefix("Jo").size());
+        assertEquals("Joe", service.findByNamePrefix("Jo").get(0).getName());
+        assertEquals(1, service.findByNamePrefix("Bob").size());
+        assertEquals(1, service.findByAgeRange(40, 40).size());
+        assertTrue(service.findByAgeRange(20, 21).isEmpty());
+    }
+
+    @Test
+    public void testSearchByNameToleratesTyposAndRanksExactFirst() {
+        service.addStudent("Jon Smith", 20);
+        service.addStudent("John Smith", 21);
+        service.addStudent("John Smith", 22);
+        service.addStudent("Jane Doe", 23);
+
+        List<Student> students = service.searchByName("jhon smith", 2, 10);
+
+        assertEquals(3, students.size());
+        assertEquals("John Smith", students.get(0).getName());
+        assertEquals("John Smith", students.get(1).getName());
+        assertEquals("Jon Smith", students.get(2).getName());
+        assertEquals(2, service.searchByName("john smith", 1, 2).size());
+        assertTrue(service.searchByName("jhon", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testSearchFollowsAddsUpdatesDeletesAndCommits() {
+        service.addStudent("Annabel", 20);
+        assertEquals(1, service.findByNameContaining("nab", 10).size());
+
+        service.updateStudent(1, "Mariana", 20);
+        service.addStudent("Hannah", 21);
+        service.transaction().add("Joanna", 22).delete(2).commit();
+
+        List<Student> students = service.findByNameContaining("ann", 10);
+        assertEquals(1, students.size());
+        assertEquals("Joanna", students.get(0).getName());
+        assertTrue(service.findByNameContaining("nab", 10).isEmpty());
+        assertEquals("Mariana", service.searchByName("mariano", 1, 10).get(0).getName());
+    }
+
+    @Test
+    public void testAddWithExistingIdIsRejected() {
+        service.addStudent(5, "Alice", 20);
+
+        assertThrows(IllegalArgumentException.class, () -> service.addStudent(5, "Bob", 21));
+        assertEquals(1, service.size());
+        assertTrue(service.deleteStudent(5));
+        assertTrue(service.getAllStudents().isEmpty());
+        assertEquals(6, service.addStudent("Carol", 22).getId());
+    }
+
+    @Test
+    public void testSearchRejectsInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> service.searchByName(null, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.searchByName("a", 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.searchByName("a", -1, 10));
+        assertThrows(IllegalArgumentException.class, () -> service.findByNameContaining("a", -1));
+    }
+
+    @Test
+    public void testPage() {
+        for (int i = 1; i <= 10; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        service.deleteStudent(2);
+
+        List<Student> first = service.page(0, 3);
+        List<Student> last = service.page(7, 5);
+
+        assertEquals(List.of(1, 3, 4), first.stream().map(Student::getId).toList());
+        assertEquals(List.of(9, 10), last.stream().map(Student::getId).toList());
+        assertTrue(service.page(9, 5).isEmpty());
+        assertTrue(service.page(0, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> service.page(-1, 5));
+    }
+
+    @Test
+    public void testForEachVisitsInInsertionOrder() {
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+        StringBuilder names = new StringBuilder();
+
+        service.forEach(s -> names.append(s.getName()).append(';'));
+
+        assertEquals("Alice;Bob;", names.toString());
+    }
+
+    @Test
+    public void testStreamCoversLargeRoster() {
+        for (int i = 0; i < 5_000; i++) {
+            service.addStudent("Student" + i, i % 50);
+        }
+
+        long adults;
+        try (var students = service.stream()) {
+            adults = students.filter(s -> s.getAge() >= 18).count();
+        }
+
+        assertEquals(3_200, adults);
+    }
+
+    @Test
+    public void testAbandonedStreamDoesNotBlockWriters() {
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+
+        var students = service.stream().iterator();
+        assertEquals("Alice", students.next().getName());
+
+        assertTrue(service.deleteStudent(1));
+        service.addStudent("Carol", 24);
+        assertEquals("Bob", students.next().getName());
+        assertFalse(students.hasNext());
+        assertEquals(2, service.stream().count());
+    }
+
+    @Test
+    public void testStreamReadsPagesAcrossCompaction() {
+        for (int i = 0; i < 3_000; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        var students = service.stream().iterator();
+        for (int i = 0; i < 1_500; i++) {
+            assertTrue(seen.add(students.next().getId()));
+        }
+        for (int id = 1; id <= 2_000; id++) {
+            assertTrue(service.deleteStudent(id));
+        }
+        service.compact();
+        while (students.hasNext()) {
+            assertTrue(seen.add(students.next().getId()));
+        }
+
+        for (int id = 2_001; id <= 3_000; id++) {
+            assertTrue(seen.contains(id));
+        }
+        assertEquals(1_000, service.stream().count());
+    }
+
+    @Test
+    public void testPageSkipsDeletedBlocks() {
+        for (StudentRepository storage : List.of(new HeapStudentRepository(), new ColumnarStudentRepository())) {
+            StudentService paged = new StudentService(storage);
+            for (int i = 1; i <= 10_000; i++) {
+                paged.addStudent("Student" + i, 20);
+            }
+            for (int id = 1; id <= 10_000; id++) {
+                if (id % 3 == 0 || (id > 2_000 && id <= 3_000)) paged.deleteStudent(id);
+            }
+            List<Student> all = paged.getAllStudents();
+            assertTrue(storage.rowSlots() > all.size());
+
+            for (int offset : new int[] {0, 1, 1_000, 1_333, 1_334, 2_500, all.size() - 1}) {
+                assertEquals(all.subList(offset, Math.min(all.size(), offset + 7)), paged.page(offset, 7));
+            }
+            assertTrue(paged.page(all.size(), 7).isEmpty());
+        }
+    }
+
+    @Test
+    public void testUpdateDoesNotChangeStudentsAlreadyRead() {
+        Student before = service.addStudent("Alice", 22);
+
+        service.updateStudent(1, "Alicia", 30);
+
+        assertEquals("Alice", before.getName());
+        assertEquals(22, before.getAge());
+        assertEquals("Alicia", service.findById(1).get().getName());
+    }
+
+    @Test
+    public void testSnapshotIsPointInTime() {
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+
+        StudentView view = service.snapshot();
+        service.updateStudent(1, "Alicia", 30);
+        service.deleteStudent(2);
+
+        assertEquals(2, view.size());
+        assertEquals("Alice", view.findById(1).get().getName());
+        assertTrue(view.findById(2).isPresent());
+        assertEquals(1, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testVersionedStoreReadersDoNotBlockWriters() {
+        StudentService versioned = new StudentService(new VersionedStudentRepository());
+        for (int i = 1; i <= 3_000; i++) {
+            versioned.addStudent("Student" + i, 20);
+        }
+
+        StudentView view = versioned.snapshot();
+        try (var students = versioned.stream()) {
+            var iterator = students.iterator();
+            assertEquals(1, iterator.next().getId());
+            assertTrue(versioned.deleteStudent(2));
+            assertTrue(versioned.updateStudent(3, "Changed", 40));
+            assertEquals(2, iterator.next().getId());
+            assertEquals("Student3", iterator.next().getName());
+        }
+
+        assertEquals(3_000, view.size());
+        assertEquals(2_999, versioned.getAllStudents().size());
+        assertEquals(List.of(1, 3, 4), versioned.page(0, 3).stream().map(Student::getId).toList());
+        assertEquals(2_999L, versioned.aggregate(StudentQuery.all(), StudentQuery.count()));
+        assertEquals(1L, versioned.aggregate(StudentQuery.ageBetween(40, 40), StudentQuery.count()));
+    }
+
+    @Test
+    public void testVersionedStoreReadsAreConsistentUnderConcurrentUpdates() throws Exception {
+        StudentService versioned = new StudentService(new VersionedStudentRepository());
+        for (int i = 0; i < 100; i++) {
+            versioned.addStudent("0", 0);
+        }
+        Thread writer = new Thread(() -> {
+            for (int round = 1; round <= 2_000; round++) {
+                versioned.updateStudent(1 + round % 100, Integer.toString(round), round);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            for (Student s : versioned.snapshot().getAllStudents()) {
+                assertEquals(Integer.toString(s.getAge()), s.getName());
+            }
+        }
+        writer.join();
+    }
+}
@@ -0,0 +1,166 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testSnapshotRoundTrip() throws IOException {
+        Path file = dir.resolve("students.snap");
+        StudentService service = new StudentService();
+        service.addStudent("Alice", 22);
+        service.addStudent("María José", 28);
+        service.addStudent("", 0);
+        service.deleteStudent(1);
+        service.writeSnapshot(file);
+
+        StudentService reopened = StudentService.openSnapshot(file);
+        List<Student> students = reopened.getAllStudents();
+
+        assertEquals(2, students.size());
+        assertEquals(2, students.get(0).getId());
+        assertEquals("María José", students.get(0).getName());
+        assertEquals(28, students.get(0).getAge());
+        assertEquals("", students.get(1).getName());
+        assertFalse(reopened.findById(1).isPresent());
+        assertEquals(4, reopened.addStudent("Dan", 30).getId());
+    }
+
+    @Test
+    public void testEmptySnapshot() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        new StudentService().writeSnapshot(file);
+
+        StudentService reopened = StudentService.openSnapshot(file);
+
+        assertTrue(reopened.getAllStudents().isEmpty());
+        assertEquals(1, reopened.addStudent("First", 20).getId());
+    }
+
+    @Test
+    public void testMutationsOnTopOfSnapshot() throws IOException {
+        Path file = dir.resolve("students.snap");
+        StudentService service = new StudentService();
+        for (int i = 1; i <= 100; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        service.writeSnapshot(file);
+
+        StudentService reopened = StudentService.openSnapshot(file);
+        assertTrue(reopened.updateStudent(10, "Updated", 40));
+        assertTrue(reopened.deleteStudent(20));
+        assertFalse(reopened.deleteStudent(20));
+        Student added = reopened.addStudent("Added", 19);
+
+        assertEquals("Updated", reopened.findById(10).get().getName());
+        assertEquals(40, reopened.findById(10).get().getAge());
+        assertFalse(reopened.findById(20).isPresent());
+        List<Student> students = reopened.getAllStudents();
+        assertEquals(100, students.size());
+        assertEquals(added.getId(), students.get(99).getId());
+        assertTrue(reopened.deleteStudent(added.getId()));
+        assertEquals(99, reopened.getAllStudents().size());
+    }
+
+    @Test
+    public void testSnapshotOfSnapshot() throws IOException {
+        Path first = dir.resolve("first.snap");
+        Path second = dir.resolve("second.snap");
+        StudentService service = new StudentService();
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+        service.writeSnapshot(first);
+        StudentService reopened = StudentService.openSnapshot(first);
+        reopened.updateStudent(1, "Alicia", 24);
+        reopened.addStudent("Carol", 25);
+        reopened.writeSnapshot(second);
+
+        List<Student> students = StudentService.openSnapshot(second).getAllStudents();
+
+        assertEquals(3, students.size());
+        assertEquals("Alicia", students.get(0).getName());
+        assertEquals("Carol", students.get(2).getName());
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("garbage.snap");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IOException.class, () -> StudentService.openSnapshot(file));
+    }
+
+    @Test
+    public void testRejectsTruncatedFile() throws IOException {
+        Path file = dir.resolve("students.snap");
+        StudentService service = new StudentService();
+        service.addStudent("Alice", 22);
+        service.writeSnapshot(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> StudentService.openSnapshot(file));
+    }
+
+    @Test
+    public void testUtf8Length() {
+        for (String s : new String[] {"", "abc", "María", "日本語", "😀", "\uD800x"}) {
+            assertEquals(s.getBytes(StandardCharsets.UTF_8).length, StudentSnapshot.utf8Length(s));
+        }
+    }
+
+    @Test
+    public void testPagingAcrossSnapshotAndNewStudents() throws IOException {
+        Path file = dir.resolve("students.snap");
+        StudentService service = new StudentService();
+        for (int i = 1; i <= 5; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        service.writeSnapshot(file);
+        StudentService reopened = StudentService.openSnapshot(file);
+        reopened.deleteStudent(2);
+        reopened.addStudent("Student6", 20);
+        reopened.addStudent("Student7", 20);
+
+        assertEquals(List.of(1, 3, 4), ids(reopened.page(0, 3)));
+        assertEquals(List.of(5, 6, 7), ids(reopened.page(3, 10)));
+        assertEquals(List.of(7), ids(reopened.page(5, 10)));
+        assertEquals(6, reopened.stream().count());
+    }
+
+    @Test
+    public void testPagingSkipsRowsDeletedFromSnapshot() throws IOException {
+        Path file = dir.resolve("students.snap");
+        StudentService service = new StudentService();
+        for (int i = 1; i <= 5_000; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        service.writeSnapshot(file);
+        StudentService reopened = StudentService.openSnapshot(file);
+        for (int id = 1; id <= 5_000; id++) {
+            if (id % 4 == 0 || (id > 1_000 && id <= 3_100)) reopened.deleteStudent(id);
+        }
+        List<Student> all = reopened.getAllStudents();
+
+        for (int offset : new int[] {0, 700, 750, 751, 1_500, all.size() - 1}) {
+            assertEquals(all.subList(offset, Math.min(all.size(), offset + 5)), reopened.page(offset, 5));
+        }
+    }
+
+    private static List<Integer> ids(List<Student> students) {
+        return students.stream().map(Student::getId).toList();
+    }
+}
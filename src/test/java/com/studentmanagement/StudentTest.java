@@ -38,33 +38,32 @@ public class StudentTest {
     }
 
     @Test
-    public void testSetName() {
-        student.setName("Jane Doe");
-        assertEquals("Jane Doe", student.getName());
+    public void testEqualityIsByValue() {
+        assertEquals(new Student(1, "John Doe", 25), student);
+        assertEquals(new Student(1, "John Doe", 25).hashCode(), student.hashCode());
+        assertNotEquals(new Student(1, "John Doe", 26), student);
     }
 
     @Test
-    public void testSetAge() {
-        student.setAge(30);
-        assertEquals(30, student.getAge());
+    public void testRecordAccessors() {
+        assertEquals(student.getId(), student.id());
+        assertEquals(student.getName(), student.name());
+        assertEquals(student.getAge(), student.age());
     }
 
     @Test
-    public void testSetNameEmptyString() {
-        student.setName("");
-        assertEquals("", student.getName());
+    public void testEmptyName() {
+        assertEquals("", new Student(1, "", 25).getName());
     }
 
     @Test
-    public void testSetAgeZero() {
-        student.setAge(0);
-        assertEquals(0, student.getAge());
+    public void testAgeZero() {
+        assertEquals(0, new Student(1, "John Doe", 0).getAge());
     }
 
     @Test
-    public void testSetAgeNegative() {
-        student.setAge(-5);
-        assertEquals(-5, student.getAge());
+    public void testAgeNegative() {
+        assertEquals(-5, new Student(1, "John Doe", -5).getAge());
     }
 
     @Test
@@ -74,11 +73,16 @@ public class StudentTest {
     }
 
     @Test
-    public void testToStringAfterModification() {
-        student.setName("Jane Smith");
-        student.setAge(28);
-        String expected = "Student{id=1, name='Jane Smith', age=28}";
-        assertEquals(expected, student.toString());
+    public void testAppendToReusesBuilder() {
+        StringBuilder out = new StringBuilder("> ");
+
+        StringBuilder result = student.appendTo(out);
+
+        assertSame(out, result);
+        assertEquals("> Student{id=1, name='John Doe', age=25}", out.toString());
+        out.setLength(0);
+        new Student(2, "Jane Smith", 28).appendTo(out);
+        assertEquals("Student{id=2, name='Jane Smith', age=28}", out.toString());
     }
 
     @Test
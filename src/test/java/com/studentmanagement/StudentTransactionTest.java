@@ -0,0 +1,195 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentTransactionTest {
+
+    @TempDir
+    Path dir;
+
+    private StudentService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+        service.addStudent("Charlie", 24);
+    }
+
+    @Test
+    public void testCommitAppliesEveryOperation() {
+        List<Student> added = service.transaction()
+            .update(1, "Alicia", 30)
+            .delete(2)
+            .add("Dave", 25)
+            .add("Eve", 26)
+            .commit();
+
+        assertEquals(2, added.size());
+        assertEquals(4, added.get(0).getId());
+        assertEquals("Eve", added.get(1).getName());
+        assertEquals("Alicia", service.findById(1).get().getName());
+        assertFalse(service.findById(2).isPresent());
+        assertEquals(4, service.getAllStudents().size());
+        assertEquals(6, service.addStudent("Frank", 27).getId());
+    }
+
+    @Test
+    public void testMissingStudentRollsBackWholeBatch() {
+        StudentTransaction tx = service.transaction()
+            .update(1, "Alicia", 30)
+            .add("Dave", 25)
+            .update(99, "Nobody", 1);
+
+        StudentTransaction.RollbackException e = assertThrows(StudentTransaction.RollbackException.class, tx::commit);
+
+        assertEquals(2, e.operation());
+        assertEquals(99, e.studentId());
+        assertEquals("Alice", service.findById(1).get().getName());
+        assertEquals(3, service.getAllStudents().size());
+        assertEquals(3, service.changes().lastSequence());
+    }
+
+    @Test
+    public void testUpdateAfterDeleteInSameBatchIsRejected() {
+        StudentTransaction tx = service.transaction().delete(1).update(1, "Ghost", 1);
+
+        assertThrows(StudentTransaction.RollbackException.class, tx::commit);
+        assertTrue(service.findById(1).isPresent());
+    }
+
+    @Test
+    public void testCommitKeepsIndexesInSync() {
+        assertEquals(1, service.findByAgeRange(22, 22).size());
+        StudentService versioned = new StudentService(new VersionedStudentRepository());
+        versioned.addStudent("Alice", 22);
+        assertEquals(1, versioned.findByNamePrefix("Al").size());
+
+        service.transaction().update(1, "Zed", 50).add("Amy", 22).commit();
+        versioned.transaction().update(1, "Zed", 50).add("Amy", 22).commit();
+
+        assertEquals("Amy", service.findByAgeRange(22, 22).get(0).getName());
+        assertEquals(1, service.findByNamePrefix("Ze").size());
+        assertEquals(List.of("Amy"), versioned.findByNamePrefix("A").stream().map(Student::getName).toList());
+        assertEquals(1, versioned.findByAgeRange(50, 50).size());
+    }
+
+    @Test
+    public void testTransactionCommitsOnlyOnce() {
+        StudentTransaction tx = service.transaction().update(1, "Alicia", 30);
+        tx.commit();
+
+        assertThrows(IllegalStateException.class, tx::commit);
+        assertThrows(IllegalStateException.class, () -> tx.delete(1));
+    }
+
+    @Test
+    public void testEmptyTransaction() {
+        assertTrue(service.transaction().commit().isEmpty());
+        assertEquals(3, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testChangesArePublishedInOrder() {
+        StudentChangeStream.Subscription subscription = service.changes().subscribeFrom(4);
+        service.transaction().update(3, "Charles", 40).add("Dave", 25).delete(1).commit();
+        List<StudentChange> seen = new ArrayList<>();
+
+        subscription.poll(10, seen::add);
+
+        assertEquals(3, seen.size());
+        assertEquals(StudentChange.Type.UPDATED, seen.get(0).type());
+        assertEquals(4, seen.get(1).id());
+        assertEquals(StudentChange.Type.DELETED, seen.get(2).type());
+        assertEquals(6, seen.get(2).sequence());
+    }
+
+    @Test
+    public void testCommitIsRecordedInMetrics() {
+        service.metrics().setEnabled(true);
+        service.transaction().update(1, "Alicia", 30).commit();
+        assertThrows(StudentTransaction.RollbackException.class, () -> service.transaction().delete(42).commit());
+
+        assertEquals(2, service.metrics().getCommit().count());
+        assertEquals(1, service.metrics().getCommit().misses());
+    }
+
+    @Test
+    public void testBatchIsReplayedFromLog() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService persistent = new StudentService(log)) {
+            persistent.addStudent("Alice", 22);
+            StudentTransaction tx = persistent.transaction();
+            for (int i = 0; i < 500; i++) {
+                tx.add("Student" + i, 20);
+            }
+            tx.update(1, "Alicia", 30).commit();
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(501, reopened.getAllStudents().size());
+            assertEquals("Alicia", reopened.findById(1).get().getName());
+            assertEquals("Student499", reopened.findById(501).get().getName());
+        }
+    }
+
+    @Test
+    public void testTornBatchIsDiscardedEntirely() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService persistent = new StudentService(log)) {
+            persistent.addStudent("Alice", 22);
+            persistent.transaction().add("Bob", 23).add("Charlie", 24).update(1, "Alicia", 30).commit();
+        }
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(1, reopened.getAllStudents().size());
+            assertEquals("Alice", reopened.findById(1).get().getName());
+        }
+    }
+
+    @Test
+    public void testReadersNeverSeeHalfACommit() throws Exception {
+        assertBatchesAreAtomic(new StudentService());
+        assertBatchesAreAtomic(new StudentService(new VersionedStudentRepository()));
+    }
+
+    private static void assertBatchesAreAtomic(StudentService target) throws Exception {
+        for (int i = 0; i < 200; i++) {
+            target.addStudent("Student" + i, 0);
+        }
+        Thread writer = new Thread(() -> {
+            for (int round = 1; round <= 300; round++) {
+                StudentTransaction tx = target.transaction();
+                for (int id = 1; id <= 200; id++) {
+                    tx.update(id, "Student" + id, round);
+                }
+                tx.commit();
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            List<Student> students = target.getAllStudents();
+            int age = students.get(0).getAge();
+            for (Student s : students) {
+                assertEquals(age, s.getAge());
+            }
+        }
+        writer.join();
+        assertEquals(300, target.findById(200).get().getAge());
+    }
+}
@@ -0,0 +1,277 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentTransferTest {
+
+    @TempDir
+    Path dir;
+
+    private StudentService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+    }
+
+    @Test
+    public void testAddStudentsAssignsContiguousIds() {
+        service.addStudent("Existing", 30);
+
+        List<Student> created = service.addStudents(List.of(
+            new NewStudent("Alice", 22),
+            new NewStudent("Bob", 23),
+            new NewStudent("Charlie", 24)
+        ));
+
+        assertEquals(3, created.size());
+        assertEquals(2, created.get(0).getId());
+        assertEquals(4, created.get(2).getId());
+        assertEquals("Bob", service.findById(3).get().getName());
+        assertEquals(4, service.getAllStudents().size());
+    }
+
+    @Test
+    public void testAddStudentsFromLargeStream() {
+        long added = service.addStudents(IntStream.range(0, 200_000).mapToObj(i -> new NewStudent("Student" + i, i % 60)));
+
+        assertEquals(200_000, added);
+        assertEquals(200_000, service.getAllStudents().size());
+        assertEquals("Student199999", service.findById(200_000).get().getName());
+        assertEquals(200_001, service.addStudent("Next", 20).getId());
+    }
+
+    @Test
+    public void testBulkAddUpdatesIndexes() {
+        service.addStudent("Jo", 20);
+        assertEquals(1, service.findByNamePrefix("Jo").size());
+
+        service.addStudents(List.of(new NewStudent("John", 21), new NewStudent("Bob", 21)));
+
+        assertEquals(2, service.findByNamePrefix("Jo").size());
+        assertEquals(2, service.findByAgeRange(21, 21).size());
+    }
+
+    @Test
+    public void testCsvRoundTrip() throws IOException {
+        service.addStudent("Alice", 22);
+        service.addStudent("O'Brien, Sean", 30);
+        service.addStudent("Say \"hi\"", 41);
+        service.addStudent("María José", 28);
+        service.addStudent("", 0);
+        StringWriter out = new StringWriter();
+
+        service.exportCsv(out);
+        StudentService imported = new StudentService();
+        long count = imported.importCsv(new StringReader(out.toString()));
+
+        assertEquals(5, count);
+        assertTrue(out.toString().startsWith("id,name,age\n1,Alice,22\n"));
+        List<Student> students = imported.getAllStudents();
+        assertEquals("O'Brien, Sean", students.get(1).getName());
+        assertEquals("Say \"hi\"", students.get(2).getName());
+        assertEquals("María José", students.get(3).getName());
+        assertEquals("", students.get(4).getName());
+        assertEquals(0, students.get(4).getAge());
+    }
+
+    @Test
+    public void testCsvImportOfNameAgeRows() throws IOException {
+        long count = service.importCsv(new StringReader("Alice,22\r\nBob,-1\n\nCharlie,30"));
+
+        assertEquals(3, count);
+        assertEquals(-1, service.findById(2).get().getAge());
+        assertEquals("Charlie", service.findById(3).get().getName());
+    }
+
+    @Test
+    public void testCsvImportRejectsInvalidAge() {
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("Alice,abc\n")));
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("Alice\n")));
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        for (int i = 0; i < 10_000; i++) {
+            service.addStudent("Student" + i + "ü", i % 90);
+        }
+        service.deleteStudent(5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportBinary(Channels.newChannel(out));
+        StudentService imported = new StudentService();
+        long count = imported.importBinary(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        assertEquals(9_999, count);
+        assertTrue(imported.findById(5).isEmpty());
+        assertEquals("Student6ü", imported.findById(7).get().getName());
+        assertEquals(service.getAllStudents(), imported.getAllStudents());
+        assertEquals(10_001, imported.addStudent("Next", 20).getId());
+    }
+
+    @Test
+    public void testExportReleasesTheLockBetweenPagesAndSurvivesCompaction() throws IOException {
+        for (int i = 0; i < 20_000; i++) {
+            service.addStudent("Student" + i, 20);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel sink = Channels.newChannel(bytes);
+        AtomicBoolean interleaved = new AtomicBoolean();
+        WritableByteChannel out = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                if (interleaved.compareAndSet(false, true)) {
+                    try {
+                        CompletableFuture.runAsync(() -> {
+                            for (int id = 1; id <= 12_000; id++) {
+                                service.deleteStudent(id);
+                            }
+                            service.compact();
+                            service.addStudent("Late", 30);
+                        }).get(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException | ExecutionException | TimeoutException e) {
+                        throw new IOException(e);
+                    }
+                }
+                return sink.write(src);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        service.exportBinary(out);
+        StudentService imported = new StudentService();
+        imported.importBinary(Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertTrue(interleaved.get());
+        for (int id = 12_001; id <= 20_000; id++) {
+            assertEquals("Student" + (id - 1), imported.findById(id).get().getName());
+        }
+    }
+
+    @Test
+    public void testCsvImportPreservesIds() throws IOException {
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob", 23);
+        service.addStudent("Charlie", 24);
+        service.deleteStudent(2);
+        StringWriter out = new StringWriter();
+
+        service.exportCsv(out);
+        StudentService imported = new StudentService();
+        imported.importCsv(new StringReader(out.toString()));
+        imported.importCsv(new StringReader("Dave,25\n"));
+
+        assertEquals(List.of(new Student(1, "Alice", 22), new Student(3, "Charlie", 24), new Student(4, "Dave", 25)), imported.getAllStudents());
+    }
+
+    @Test
+    public void testCsvRoundTripOfTenDigitIds() throws IOException {
+        service.importCsv(new StringReader("2000000000,Alice,22\n2147483646,Bob,-2147483648\n"));
+        StringWriter out = new StringWriter();
+
+        service.exportCsv(out);
+        StudentService imported = new StudentService();
+        imported.importCsv(new StringReader(out.toString()));
+
+        assertEquals(service.getAllStudents(), imported.getAllStudents());
+        assertEquals(Integer.MIN_VALUE, imported.findById(2_147_483_646).get().getAge());
+        assertThrows(IllegalArgumentException.class, () -> imported.importCsv(new StringReader("2147483648,Carol,20\n")));
+        assertThrows(IllegalArgumentException.class, () -> imported.importCsv(new StringReader("Carol,99999999999\n")));
+    }
+
+    @Test
+    public void testImportRejectsDuplicateIds() throws IOException {
+        service.addStudent("Alice", 22);
+
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("1,Alicia,30\n")));
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("5,Bob,23\n5,Bobby,24\n")));
+        assertThrows(IllegalArgumentException.class, () -> service.importCsv(new StringReader("0,Carol,25\n")));
+        assertEquals(List.of(new Student(1, "Alice", 22)), service.getAllStudents());
+    }
+
+    @Test
+    public void testBinaryEncodesNamesLikeStringGetBytes() throws IOException {
+        String[] names = {"", "Ascii", "María", "日本語", "Emoji \uD83D\uDE00", "Lone \uD83D", "Trailing \uDE00x", "x".repeat(70_000)};
+        for (String name : names) {
+            service.addStudent(name, 20);
+            assertEquals(name.getBytes(StandardCharsets.UTF_8).length, StudentSnapshot.utf8Length(name));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportBinary(Channels.newChannel(out));
+        StudentService imported = new StudentService();
+        imported.importBinary(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        for (int i = 0; i < names.length; i++) {
+            String expected = new String(names[i].getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+            assertEquals(expected, imported.findById(i + 1).get().getName());
+        }
+    }
+
+    @Test
+    public void testCsvExportThroughBufferedWriter() throws IOException {
+        service.addStudent("Alice", 22);
+        service.addStudent("Bob, Jr.", 23);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8))) {
+            service.exportCsv(out);
+        }
+
+        assertEquals("id,name,age\n1,Alice,22\n2,\"Bob, Jr.\",23\n", bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBinaryImportRejectsForeignStream() {
+        byte[] garbage = new byte[32];
+
+        assertThrows(IllegalArgumentException.class,
+            () -> service.importBinary(Channels.newChannel(new ByteArrayInputStream(garbage))));
+    }
+
+    @Test
+    public void testBulkImportIsDurable() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService durable = new StudentService(log)) {
+            durable.importCsv(new StringReader("Alice,22\nBob,23\n"));
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(2, reopened.getAllStudents().size());
+            assertEquals(3, reopened.addStudent("Charlie", 24).getId());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StudentWriteAheadLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testReplayRestoresStudents() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudent("Alice", 22);
+            service.addStudent("Bob", 23);
+            service.addStudent("Charlie", 24);
+            service.updateStudent(2, "Robert", 30);
+            service.deleteStudent(1);
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            List<Student> students = reopened.getAllStudents();
+
+            assertEquals(2, students.size());
+            assertEquals("Robert", students.get(0).getName());
+            assertEquals(30, students.get(0).getAge());
+            assertEquals("Charlie", students.get(1).getName());
+            assertFalse(reopened.findById(1).isPresent());
+        }
+    }
+
+    @Test
+    public void testReplayContinuesIdSequence() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudent("Alice", 22);
+            service.addStudent("Bob", 23);
+            service.deleteStudent(2);
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(3, reopened.addStudent("Charlie", 24).getId());
+        }
+    }
+
+    @Test
+    public void testUnicodeNamesSurviveReplay() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudent("María José", 28);
+            service.addStudent("", 0);
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals("María José", reopened.findById(1).get().getName());
+            assertEquals("", reopened.findById(2).get().getName());
+        }
+    }
+
+    @Test
+    public void testTornTailIsDiscarded() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudent("Alice", 22);
+            service.addStudent("Bob", 23);
+        }
+        long intact = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(intact - 3);
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(1, reopened.getAllStudents().size());
+            assertEquals(2, reopened.addStudent("Carol", 25).getId());
+        }
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals("Carol", reopened.findById(2).get().getName());
+        }
+    }
+
+    @Test
+    public void testCorruptRecordStopsReplay() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudent("Alice", 22);
+            service.addStudent("Bob", 23);
+        }
+        byte[] bytes = Files.readAllBytes(log);
+        bytes[bytes.length - 6] ^= 0x5A;
+        Files.write(log, bytes);
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(1, reopened.getAllStudents().size());
+            assertEquals("Alice", reopened.findById(1).get().getName());
+        }
+    }
+
+    @Test
+    public void testConcurrentWritersAreAllDurable() throws Exception {
+        Path log = dir.resolve("students.wal");
+        int threads = 8;
+        int perThread = 500;
+        try (StudentService service = new StudentService(log)) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            Student s = service.addStudent("Student" + i, 20);
+                            service.updateStudent(s.getId(), "Updated" + i, 21);
+                        }
+                    }));
+                }
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            List<Student> students = reopened.getAllStudents();
+            assertEquals(threads * perThread, students.size());
+            for (Student s : students) {
+                assertTrue(s.getName().startsWith("Updated"));
+                assertEquals(21, s.getAge());
+            }
+        }
+    }
+
+    @Test
+    public void testWritesFailFastOnceLogIsUnusable() throws IOException {
+        Path log = dir.resolve("students.wal");
+        StudentService service = new StudentService(log);
+        Student alice = service.addStudent("Alice", 22);
+        service.close();
+
+        assertThrows(UncheckedIOException.class, () -> service.addStudent("Bob", 23));
+        assertThrows(UncheckedIOException.class, () -> service.addStudent("Carol", 24));
+        assertThrows(UncheckedIOException.class, () -> service.updateStudent(alice.getId(), "Alicia", 30));
+        assertThrows(UncheckedIOException.class, () -> service.deleteStudent(alice.getId()));
+
+        assertEquals(alice, service.findById(alice.getId()).orElseThrow());
+        assertEquals(List.of("Alice", "Bob"), service.getAllStudents().stream().map(Student::getName).toList());
+    }
+
+    @Test
+    public void testBulkImportIsLoggedAsOneRecord() throws IOException {
+        Path log = dir.resolve("students.wal");
+        try (StudentService service = new StudentService(log)) {
+            service.addStudents(List.of(new NewStudent("Alice", 22), new NewStudent("Bob", 23)));
+        }
+
+        try (StudentService reopened = new StudentService(log)) {
+            assertEquals(List.of(new Student(1, "Alice", 22), new Student(2, "Bob", 23)), reopened.getAllStudents());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionedStudentRepositoryTest {
+
+    private VersionedStudentRepository repository;
+
+    @BeforeEach
+    public void setUp() {
+        repository = new VersionedStudentRepository();
+    }
+
+    private static List<Integer> ids(StudentRepository source) {
+        List<Integer> ids = new ArrayList<>();
+        source.forEach(s -> ids.add(s.getId()));
+        return ids;
+    }
+
+    @Test
+    public void testInsertFindUpdateRemove() {
+        repository.insert(new Student(1, "Alice", 22));
+        repository.insert(new Student(0, "Zero", 1));
+
+        assertEquals(2, repository.size());
+        assertEquals("Alice", repository.find(1).getName());
+        assertEquals("Zero", repository.find(0).getName());
+        assertTrue(repository.update(1, "Alicia", 23));
+        assertEquals(23, repository.find(1).getAge());
+        assertFalse(repository.update(2, "Nobody", 1));
+        assertTrue(repository.remove(1));
+        assertFalse(repository.remove(1));
+        assertNull(repository.find(1));
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    public void testGrowsForLargeIds() {
+        int[] ids = {5, 31, 32, 1_000, 1 << 20, 1 << 30, Integer.MAX_VALUE};
+        for (int id : ids) {
+            repository.insert(new Student(id, "S" + id, 20));
+        }
+
+        for (int id : ids) {
+            assertEquals("S" + id, repository.find(id).getName());
+        }
+        assertNull(repository.find(33));
+        assertNull(repository.find(-1));
+        assertEquals(List.of(5, 31, 32, 1_000, 1 << 20, 1 << 30, Integer.MAX_VALUE), ids(repository));
+        assertThrows(IllegalArgumentException.class, () -> repository.insert(new Student(-1, "Negative", 20)));
+    }
+
+    @Test
+    public void testSnapshotIsIsolatedFromLaterWrites() {
+        for (int id = 1; id <= 100; id++) {
+            repository.insert(new Student(id, "Student" + id, 20));
+        }
+        StudentRepository before = repository.snapshot();
+
+        repository.update(50, "Changed", 99);
+        repository.remove(10);
+        repository.insert(new Student(101, "New", 20));
+        repository.insertAll(new Student[] {new Student(102, "A", 1), new Student(103, "B", 2)});
+
+        assertEquals(100, before.size());
+        assertEquals("Student50", before.find(50).getName());
+        assertEquals(20, before.find(50).getAge());
+        assertNotNull(before.find(10));
+        assertNull(before.find(101));
+        assertEquals(102, repository.size());
+        assertEquals("Changed", repository.find(50).getName());
+        assertThrows(UnsupportedOperationException.class, () -> before.remove(1));
+    }
+
+    @Test
+    public void testScanAndSeekPageInIdOrder() {
+        for (int id = 1; id <= 200; id++) {
+            repository.insert(new Student(id, "Student" + id, 20));
+        }
+        for (int id = 1; id <= 200; id += 2) {
+            repository.remove(id);
+        }
+        List<Integer> page = new ArrayList<>();
+
+        long cursor = repository.seek(40);
+        cursor = repository.scan(cursor, 5, s -> page.add(s.getId()));
+
+        assertEquals(List.of(82, 84, 86, 88, 90), page);
+        assertEquals(91, cursor);
+        assertEquals(-1, repository.seek(100));
+        assertEquals(200, repository.seek(99));
+        assertEquals(-1, repository.scan(201, 5, s -> fail()));
+    }
+
+    @Test
+    public void testForEachRowCoversChunks() {
+        for (int id = 1; id <= 5_000; id++) {
+            repository.insert(new Student(id, "Student" + id, 20));
+        }
+        int[] seen = {0};
+        int slots = repository.rowSlots();
+
+        for (int from = 0; from < slots; from += 700) {
+            repository.forEachRow(from, Math.min(slots, from + 700), row -> seen[0]++);
+        }
+
+        assertEquals(5_000, seen[0]);
+    }
+
+    @Test
+    public void testRemoveEverything() {
+        for (int id = 1; id <= 1_000; id++) {
+            repository.insert(new Student(id, "Student" + id, 20));
+        }
+        for (int id = 1; id <= 1_000; id++) {
+            assertTrue(repository.remove(id));
+        }
+
+        assertEquals(0, repository.size());
+        assertTrue(ids(repository).isEmpty());
+        assertEquals(-1, repository.seek(0));
+        repository.insert(new Student(7, "Again", 20));
+        assertEquals(List.of(7), ids(repository));
+    }
+}
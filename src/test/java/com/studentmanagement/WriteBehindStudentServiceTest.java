@@ -0,0 +1,190 @@
+package com.studentmanagement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteBehindStudentServiceTest {
+
+    private StudentService service;
+    private WriteBehindStudentService writeBehind;
+
+    @BeforeEach
+    public void setUp() {
+        service = new StudentService();
+        writeBehind = new WriteBehindStudentService(service, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        writeBehind.close();
+        service.close();
+    }
+
+    @Test
+    public void testLaterUpdatesSupersedeEarlierOnes() {
+        Student alice = writeBehind.addStudent("Alice", 20);
+
+        for (int age = 21; age <= 30; age++) {
+            assertTrue(writeBehind.updateStudent(alice.getId(), "Alice", age));
+        }
+
+        assertEquals(1, writeBehind.pendingUpdates());
+        assertEquals(9, writeBehind.supersededUpdates());
+        assertEquals(20, service.findById(alice.getId()).orElseThrow().getAge());
+
+        writeBehind.flush();
+
+        assertEquals(0, writeBehind.pendingUpdates());
+        assertEquals(30, service.findById(alice.getId()).orElseThrow().getAge());
+    }
+
+    @Test
+    public void testFlushAppliesBufferedUpdatesAsOneCommit() {
+        service.metrics().setEnabled(true);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            students.add(writeBehind.addStudent("Student" + i, 20));
+        }
+        for (int round = 0; round < 10; round++) {
+            for (Student s : students) {
+                writeBehind.updateStudent(s.getId(), "Renamed" + s.getId(), 21 + round);
+            }
+        }
+
+        writeBehind.flush();
+
+        assertEquals(1, service.metrics().stats(StudentMetrics.Operation.COMMIT).count());
+        assertEquals(0, service.metrics().stats(StudentMetrics.Operation.UPDATE).count());
+        for (Student s : students) {
+            Student current = service.findById(s.getId()).orElseThrow();
+            assertEquals("Renamed" + s.getId(), current.getName());
+            assertEquals(30, current.getAge());
+        }
+        assertEquals(11, service.findByNamePrefix("Renamed1").size());
+    }
+
+    @Test
+    public void testUpdateOfMissingStudentIsRejected() {
+        assertFalse(writeBehind.updateStudent(99, "Nobody", 20));
+        assertEquals(0, writeBehind.pendingUpdates());
+    }
+
+    @Test
+    public void testDeleteDiscardsBufferedUpdate() {
+        Student alice = writeBehind.addStudent("Alice", 20);
+        Student bob = writeBehind.addStudent("Bob", 21);
+        writeBehind.updateStudent(alice.getId(), "Alicia", 22);
+        writeBehind.updateStudent(bob.getId(), "Robert", 23);
+
+        assertTrue(writeBehind.deleteStudent(alice.getId()));
+        writeBehind.flush();
+
+        assertTrue(service.findById(alice.getId()).isEmpty());
+        assertEquals("Robert", service.findById(bob.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void testStudentDeletedBehindTheBufferStaysDeleted() {
+        Student alice = writeBehind.addStudent("Alice", 20);
+        Student bob = writeBehind.addStudent("Bob", 21);
+        writeBehind.updateStudent(alice.getId(), "Alicia", 22);
+        writeBehind.updateStudent(bob.getId(), "Robert", 23);
+
+        service.deleteStudent(alice.getId());
+        writeBehind.flush();
+
+        assertTrue(service.findById(alice.getId()).isEmpty());
+        assertEquals("Robert", service.findById(bob.getId()).orElseThrow().getName());
+        assertEquals(0, writeBehind.pendingUpdates());
+    }
+
+    @Test
+    public void testReadsAreEventuallyConsistentByDefault() {
+        Student alice = writeBehind.addStudent("Alice", 20);
+        writeBehind.updateStudent(alice.getId(), "Alicia", 21);
+
+        assertEquals("Alice", writeBehind.findById(alice.getId()).orElseThrow().getName());
+        assertEquals("Alice", writeBehind.getAllStudents().get(0).getName());
+    }
+
+    @Test
+    public void testReadYourWritesOverlaysBufferedUpdates() {
+        try (WriteBehindStudentService consistent = new WriteBehindStudentService(service, Duration.ofHours(1), true)) {
+            Student alice = consistent.addStudent("Alice", 20);
+            consistent.updateStudent(alice.getId(), "Alicia", 21);
+
+            Student seen = consistent.findById(alice.getId()).orElseThrow();
+            assertEquals(new Student(alice.getId(), "Alicia", 21), seen);
+            assertEquals("Alice", service.findById(alice.getId()).orElseThrow().getName());
+
+            assertEquals("Alicia", consistent.getAllStudents().get(0).getName());
+            assertEquals(0, consistent.pendingUpdates());
+        }
+    }
+
+    @Test
+    public void testWindowFlushesInTheBackground() throws InterruptedException {
+        try (WriteBehindStudentService fast = new WriteBehindStudentService(service, Duration.ofMillis(5))) {
+            Student alice = fast.addStudent("Alice", 20);
+            fast.updateStudent(alice.getId(), "Alicia", 21);
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (fast.pendingUpdates() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertEquals("Alicia", service.findById(alice.getId()).orElseThrow().getName());
+            assertTrue(fast.flushes() >= 1);
+        }
+    }
+
+    @Test
+    public void testCloseFlushesPendingUpdates() {
+        Student alice = writeBehind.addStudent("Alice", 20);
+        writeBehind.updateStudent(alice.getId(), "Alicia", 21);
+
+        writeBehind.close();
+
+        assertEquals("Alicia", service.findById(alice.getId()).orElseThrow().getName());
+        assertThrows(IllegalStateException.class, () -> writeBehind.updateStudent(alice.getId(), "Late", 22));
+        assertEquals(0, writeBehind.pendingUpdates());
+    }
+
+    @Test
+    public void testBackgroundFlushSurvivesErrors() throws InterruptedException {
+        AtomicInteger transactions = new AtomicInteger();
+        StudentService failing = new StudentService() {
+            @Override
+            public StudentTransaction transaction() {
+                if (transactions.getAndIncrement() == 0) throw new AssertionError("flush failed");
+                return super.transaction();
+            }
+        };
+        try (WriteBehindStudentService fast = new WriteBehindStudentService(failing, Duration.ofMillis(5))) {
+            Student alice = fast.addStudent("Alice", 20);
+            fast.updateStudent(alice.getId(), "Alicia", 21);
+
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (fast.pendingUpdates() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertEquals("Alicia", failing.findById(alice.getId()).orElseThrow().getName());
+            assertTrue(transactions.get() >= 2);
+        }
+    }
+
+    @Test
+    public void testRejectsNonPositiveWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new WriteBehindStudentService(service, Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> writeBehind.updateStudent(1, null, 20));
+    }
+}